@@ -0,0 +1,36 @@
+package kitchenpos.domain.support;
+
+import java.util.function.Supplier;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class OptimisticLockRetry {
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public OptimisticLockRetry(final PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> T execute(final Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        var attempt = 1;
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (final OptimisticLockingFailureException e) {
+                if (attempt++ >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package kitchenpos.exception;
+
+public class OrderTableLockTimeoutException extends KitchenPosException {
+    private static final String MESSAGE_FORMAT = "테이블 잠금을 얻지 못했습니다. 잠시 후에 다시 요청해주세요 : %s";
+
+    public OrderTableLockTimeoutException(final Object orderTableIds) {
+        super(String.format(MESSAGE_FORMAT, orderTableIds));
+    }
+}
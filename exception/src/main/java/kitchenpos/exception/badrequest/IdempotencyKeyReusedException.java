@@ -0,0 +1,14 @@
+package kitchenpos.exception.badrequest;
+
+public class IdempotencyKeyReusedException extends BadRequestException {
+    private static final String DEFAULT_MESSAGE = "같은 멱등키로 다른 요청을 보낼 수 없습니다";
+    private static final String MESSAGE_FORMAT = "같은 멱등키로 다른 요청을 보낼 수 없습니다 : %s";
+
+    public IdempotencyKeyReusedException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public IdempotencyKeyReusedException(final String idempotencyKey) {
+        super(String.format(MESSAGE_FORMAT, idempotencyKey));
+    }
+}
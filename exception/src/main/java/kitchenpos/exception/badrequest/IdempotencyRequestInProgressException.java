@@ -0,0 +1,14 @@
+package kitchenpos.exception.badrequest;
+
+public class IdempotencyRequestInProgressException extends BadRequestException {
+    private static final String DEFAULT_MESSAGE = "같은 멱등키의 요청이 아직 처리 중입니다";
+    private static final String MESSAGE_FORMAT = "같은 멱등키의 요청이 아직 처리 중입니다 : %s";
+
+    public IdempotencyRequestInProgressException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public IdempotencyRequestInProgressException(final String idempotencyKey) {
+        super(String.format(MESSAGE_FORMAT, idempotencyKey));
+    }
+}
@@ -0,0 +1,14 @@
+package kitchenpos.exception.badrequest;
+
+public class OrderBatchSizeInvalidException extends BadRequestException {
+    private static final String DEFAULT_MESSAGE = "일괄 주문 크기가 유효하지 않습니다";
+    private static final String MESSAGE_FORMAT = "일괄 주문 크기가 유효하지 않습니다 : %d";
+
+    public OrderBatchSizeInvalidException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public OrderBatchSizeInvalidException(final int invalidBatchSize) {
+        super(String.format(MESSAGE_FORMAT, invalidBatchSize));
+    }
+}
@@ -0,0 +1,14 @@
+package kitchenpos.exception.badrequest;
+
+public class OrderStatusTransitionInvalidException extends BadRequestException {
+    private static final String DEFAULT_MESSAGE = "변경할 수 없는 주문 상태입니다";
+    private static final String MESSAGE_FORMAT = "변경할 수 없는 주문 상태입니다 : %s -> %s";
+
+    public OrderStatusTransitionInvalidException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public OrderStatusTransitionInvalidException(final String from, final String to) {
+        super(String.format(MESSAGE_FORMAT, from, to));
+    }
+}
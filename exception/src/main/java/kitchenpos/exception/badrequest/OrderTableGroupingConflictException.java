@@ -0,0 +1,14 @@
+package kitchenpos.exception.badrequest;
+
+public class OrderTableGroupingConflictException extends BadRequestException {
+    private static final String DEFAULT_MESSAGE = "그룹 상태를 변경할 수 없는 테이블이 포함되어 있습니다";
+    private static final String MESSAGE_FORMAT = "그룹 상태를 변경할 수 없는 테이블이 포함되어 있습니다 : %s";
+
+    public OrderTableGroupingConflictException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public OrderTableGroupingConflictException(final Long tableGroupId) {
+        super(String.format(MESSAGE_FORMAT, tableGroupId));
+    }
+}
@@ -0,0 +1,14 @@
+package kitchenpos.exception.badrequest;
+
+public class PageSizeInvalidException extends BadRequestException {
+    private static final String DEFAULT_MESSAGE = "페이지 크기가 유효하지 않습니다";
+    private static final String MESSAGE_FORMAT = "페이지 크기가 유효하지 않습니다 : %d";
+
+    public PageSizeInvalidException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public PageSizeInvalidException(final Integer invalidPageSize) {
+        super(String.format(MESSAGE_FORMAT, invalidPageSize));
+    }
+}
@@ -0,0 +1,14 @@
+package kitchenpos.exception.badrequest;
+
+public class ProductImportLineTooLongException extends BadRequestException {
+    private static final String DEFAULT_MESSAGE = "프로덕트 가져오기 행이 너무 깁니다";
+    private static final String MESSAGE_FORMAT = "프로덕트 가져오기 행이 너무 깁니다 : 최대 %d자";
+
+    public ProductImportLineTooLongException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public ProductImportLineTooLongException(final int maxLineLength) {
+        super(String.format(MESSAGE_FORMAT, maxLineLength));
+    }
+}
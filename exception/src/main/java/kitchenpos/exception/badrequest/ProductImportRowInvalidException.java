@@ -0,0 +1,14 @@
+package kitchenpos.exception.badrequest;
+
+public class ProductImportRowInvalidException extends BadRequestException {
+    private static final String DEFAULT_MESSAGE = "프로덕트 가져오기 행이 유효하지 않습니다";
+    private static final String MESSAGE_FORMAT = "프로덕트 가져오기 행이 유효하지 않습니다 : %s";
+
+    public ProductImportRowInvalidException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public ProductImportRowInvalidException(final String invalidRow) {
+        super(String.format(MESSAGE_FORMAT, invalidRow));
+    }
+}
@@ -0,0 +1,16 @@
+package kitchenpos.exception.notfound;
+
+import kitchenpos.exception.badrequest.BadRequestException;
+
+public class ProductNotFoundException extends BadRequestException {
+    private static final String DEFAULT_MESSAGE = "해당 프로덕트가 존재하지 않습니다";
+    private static final String MESSAGE_FORMAT = "해당 프로덕트가 존재하지 않습니다 : %s";
+
+    public ProductNotFoundException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public ProductNotFoundException(final Long invalidId) {
+        super(String.format(MESSAGE_FORMAT, invalidId));
+    }
+}
@@ -2,9 +2,11 @@ package kitchenpos.application.concrete;
 
 import java.util.List;
 import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.event.MenuGroupCreatedEvent;
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.repository.MenuGroupRepository;
 import kitchenpos.ui.dto.request.MenuGroupCreateRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,17 +14,21 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class JpaMenuGroupService implements MenuGroupService {
     private final MenuGroupRepository menuGroupRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    public JpaMenuGroupService(final MenuGroupRepository menuGroupRepository) {
+    public JpaMenuGroupService(final MenuGroupRepository menuGroupRepository,
+                               final ApplicationEventPublisher applicationEventPublisher) {
         this.menuGroupRepository = menuGroupRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Transactional
     @Override
     public MenuGroup create(final MenuGroupCreateRequest request) {
-        final var newMenuGroup = new MenuGroup(request.getName());
+        final var newMenuGroup = menuGroupRepository.save(new MenuGroup(request.getName()));
+        applicationEventPublisher.publishEvent(new MenuGroupCreatedEvent(newMenuGroup));
 
-        return menuGroupRepository.save(newMenuGroup);
+        return newMenuGroup;
     }
 
     @Override
@@ -2,10 +2,12 @@ package kitchenpos.application.concrete;
 
 import java.util.List;
 import kitchenpos.application.MenuService;
+import kitchenpos.application.event.MenuCreatedEvent;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.mapper.MenuMapper;
 import kitchenpos.repository.MenuRepository;
 import kitchenpos.ui.dto.request.MenuCreateRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,18 +16,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class JpaMenuService implements MenuService {
     private final MenuMapper menuMapper;
     private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    public JpaMenuService(final MenuMapper menuMapper, final MenuRepository menuRepository) {
+    public JpaMenuService(final MenuMapper menuMapper, final MenuRepository menuRepository,
+                          final ApplicationEventPublisher applicationEventPublisher) {
         this.menuMapper = menuMapper;
         this.menuRepository = menuRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Transactional
     @Override
     public Menu create(final MenuCreateRequest request) {
-        final var menu = menuMapper.mapFrom(request);
+        final var menu = menuRepository.save(menuMapper.mapFrom(request));
+        applicationEventPublisher.publishEvent(new MenuCreatedEvent(menu));
 
-        return menuRepository.save(menu);
+        return menu;
     }
 
     @Override
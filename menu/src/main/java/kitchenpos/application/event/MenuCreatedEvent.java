@@ -0,0 +1,15 @@
+package kitchenpos.application.event;
+
+import kitchenpos.domain.Menu;
+
+public class MenuCreatedEvent {
+    private final Menu menu;
+
+    public MenuCreatedEvent(final Menu menu) {
+        this.menu = menu;
+    }
+
+    public Menu getMenu() {
+        return menu;
+    }
+}
@@ -0,0 +1,50 @@
+package kitchenpos.application.event;
+
+import java.util.List;
+import kitchenpos.domain.support.MenuCatalog;
+import kitchenpos.domain.support.MenuPriceIndex;
+import kitchenpos.domain.support.OrderingMenuCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class MenuEventListener {
+    private final OrderingMenuCache orderingMenuCache;
+    private final MenuCatalog menuCatalog;
+    private final MenuPriceIndex menuPriceIndex;
+
+    public MenuEventListener(final OrderingMenuCache orderingMenuCache, final MenuCatalog menuCatalog,
+                             final MenuPriceIndex menuPriceIndex) {
+        this.orderingMenuCache = orderingMenuCache;
+        this.menuCatalog = menuCatalog;
+        this.menuPriceIndex = menuPriceIndex;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMenuCreatedEvent(final MenuCreatedEvent menuCreatedEvent) {
+        orderingMenuCache.invalidateAll();
+        menuCatalog.invalidate();
+        menuPriceIndex.refreshMenus(List.of(menuCreatedEvent.getMenu().getId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMenuGroupCreatedEvent(final MenuGroupCreatedEvent menuGroupCreatedEvent) {
+        orderingMenuCache.invalidateAll();
+        menuCatalog.invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductCreatedEvent(final ProductCreatedEvent productCreatedEvent) {
+        menuCatalog.invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductsImportedEvent(final ProductsImportedEvent productsImportedEvent) {
+        menuCatalog.invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProductPriceChangedEvent(final ProductPriceChangedEvent productPriceChangedEvent) {
+        menuPriceIndex.refreshProduct(productPriceChangedEvent.getProduct().getId());
+    }
+}
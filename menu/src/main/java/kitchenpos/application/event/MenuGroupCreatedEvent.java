@@ -0,0 +1,15 @@
+package kitchenpos.application.event;
+
+import kitchenpos.domain.MenuGroup;
+
+public class MenuGroupCreatedEvent {
+    private final MenuGroup menuGroup;
+
+    public MenuGroupCreatedEvent(final MenuGroup menuGroup) {
+        this.menuGroup = menuGroup;
+    }
+
+    public MenuGroup getMenuGroup() {
+        return menuGroup;
+    }
+}
@@ -1,18 +1,25 @@
 package kitchenpos.domain;
 
 import java.util.Objects;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import kitchenpos.exception.badrequest.MenuGroupNameInvalidException;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.util.StringUtils;
 
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Entity
 public class MenuGroup {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_group_seq_generator")
+    @SequenceGenerator(name = "menu_group_seq_generator", sequenceName = "menu_group_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     @Column(name = "name", nullable = false)
@@ -0,0 +1,59 @@
+package kitchenpos.domain.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Objects;
+import kitchenpos.repository.MenuRepository;
+import kitchenpos.ui.dto.response.MenuResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class MenuCatalog {
+    private final MenuRepository menuRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private volatile MenuCatalogSnapshot snapshot;
+
+    public MenuCatalog(final MenuRepository menuRepository, final ObjectMapper objectMapper,
+                       final PlatformTransactionManager transactionManager) {
+        this.menuRepository = menuRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public MenuCatalogSnapshot snapshot() {
+        final var current = this.snapshot;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+
+        return rebuild();
+    }
+
+    private synchronized MenuCatalogSnapshot rebuild() {
+        if (Objects.nonNull(this.snapshot)) {
+            return this.snapshot;
+        }
+
+        this.snapshot = MenuCatalogSnapshot.from(render());
+
+        return this.snapshot;
+    }
+
+    private byte[] render() {
+        final var menuResponses = transactionTemplate.execute(status -> MenuResponse.from(menuRepository.findAll()));
+
+        try {
+            return objectMapper.writeValueAsBytes(menuResponses);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public synchronized void invalidate() {
+        this.snapshot = null;
+    }
+}
@@ -0,0 +1,25 @@
+package kitchenpos.domain.support;
+
+import org.springframework.util.DigestUtils;
+
+public class MenuCatalogSnapshot {
+    private final byte[] body;
+    private final String eTag;
+
+    private MenuCatalogSnapshot(final byte[] body, final String eTag) {
+        this.body = body;
+        this.eTag = eTag;
+    }
+
+    public static MenuCatalogSnapshot from(final byte[] body) {
+        return new MenuCatalogSnapshot(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+}
@@ -0,0 +1,61 @@
+package kitchenpos.domain.support;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import kitchenpos.repository.MenuPriceComponent;
+
+public class MenuPriceAggregate {
+    private final Long menuId;
+    private final String menuName;
+    private final BigDecimal price;
+    private final BigDecimal totalPriceOfMenuProducts;
+    private final Set<Long> productIds;
+
+    private MenuPriceAggregate(final Long menuId, final String menuName, final BigDecimal price,
+                               final BigDecimal totalPriceOfMenuProducts, final Set<Long> productIds) {
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.price = price;
+        this.totalPriceOfMenuProducts = totalPriceOfMenuProducts;
+        this.productIds = productIds;
+    }
+
+    public static MenuPriceAggregate from(final List<MenuPriceComponent> components) {
+        final var first = components.get(0);
+        final var totalPriceOfMenuProducts = components.stream()
+                .map(MenuPriceComponent::getComponentPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        final var productIds = components.stream()
+                .map(MenuPriceComponent::getProductId)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new MenuPriceAggregate(first.getMenuId(), first.getMenuName(), first.getMenuPrice(),
+                totalPriceOfMenuProducts, productIds);
+    }
+
+    public boolean isOverpriced() {
+        return price.compareTo(totalPriceOfMenuProducts) > 0;
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public BigDecimal getTotalPriceOfMenuProducts() {
+        return totalPriceOfMenuProducts;
+    }
+
+    public Set<Long> getProductIds() {
+        return productIds;
+    }
+}
@@ -0,0 +1,144 @@
+package kitchenpos.domain.support;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import kitchenpos.repository.MenuPriceComponent;
+import kitchenpos.repository.MenuRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class MenuPriceIndex {
+    private final MenuRepository menuRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, MenuPriceAggregate> aggregates = new HashMap<>();
+    private final Map<Long, Set<Long>> menuIdsByProductId = new HashMap<>();
+    private final TreeMap<Long, MenuPriceAggregate> overpricedAggregates = new TreeMap<>();
+    private volatile List<MenuPriceAggregate> overpricedMenus = List.of();
+    private long refreshCount;
+
+    public MenuPriceIndex(final MenuRepository menuRepository, final PlatformTransactionManager transactionManager) {
+        this.menuRepository = menuRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public List<MenuPriceAggregate> findOverpricedMenus() {
+        return overpricedMenus;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        replaceAll(load(menuRepository::findAllPriceComponents));
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.menu-price-index.reconcile-interval-ms:60000}",
+            initialDelayString = "${kitchenpos.menu-price-index.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        final long observedRefreshCount;
+        synchronized (this) {
+            observedRefreshCount = refreshCount;
+        }
+        final var components = load(menuRepository::findAllPriceComponents);
+
+        synchronized (this) {
+            if (refreshCount == observedRefreshCount) {
+                replaceAll(components);
+                return;
+            }
+        }
+        rebuild();
+    }
+
+    public synchronized void refreshMenus(final Collection<Long> menuIds) {
+        if (menuIds.isEmpty()) {
+            return;
+        }
+
+        refreshCount++;
+        apply(menuIds, load(() -> menuRepository.findPriceComponentsByMenuIdIn(menuIds)));
+    }
+
+    public synchronized void refreshProduct(final Long productId) {
+        refreshMenus(findMenuIdsByProductId(productId));
+    }
+
+    public synchronized Set<Long> findMenuIdsByProductId(final Long productId) {
+        return Set.copyOf(menuIdsByProductId.getOrDefault(productId, Set.of()));
+    }
+
+    public synchronized MenuPriceAggregate findByMenuId(final Long menuId) {
+        return aggregates.get(menuId);
+    }
+
+    private void replaceAll(final List<MenuPriceComponent> components) {
+        aggregates.clear();
+        menuIdsByProductId.clear();
+        overpricedAggregates.clear();
+
+        apply(List.of(), components);
+    }
+
+    private List<MenuPriceComponent> load(final Supplier<List<MenuPriceComponent>> query) {
+        return transactionTemplate.execute(status -> query.get());
+    }
+
+    private void apply(final Collection<Long> requestedMenuIds, final List<MenuPriceComponent> components) {
+        final var componentsByMenuId = components.stream()
+                .collect(Collectors.groupingBy(MenuPriceComponent::getMenuId));
+
+        for (final Long menuId : requestedMenuIds) {
+            if (!componentsByMenuId.containsKey(menuId)) {
+                remove(menuId);
+            }
+        }
+
+        componentsByMenuId.values()
+                .forEach(menuComponents -> put(MenuPriceAggregate.from(menuComponents)));
+
+        this.overpricedMenus = List.copyOf(overpricedAggregates.values());
+    }
+
+    private void put(final MenuPriceAggregate aggregate) {
+        final var menuId = aggregate.getMenuId();
+        remove(menuId);
+
+        aggregates.put(menuId, aggregate);
+        for (final Long productId : aggregate.getProductIds()) {
+            menuIdsByProductId.computeIfAbsent(productId, ignored -> new HashSet<>()).add(menuId);
+        }
+        if (aggregate.isOverpriced()) {
+            overpricedAggregates.put(menuId, aggregate);
+        }
+    }
+
+    private void remove(final Long menuId) {
+        final var existing = aggregates.remove(menuId);
+        if (Objects.isNull(existing)) {
+            return;
+        }
+
+        for (final Long productId : existing.getProductIds()) {
+            final var menuIds = menuIdsByProductId.get(productId);
+            menuIds.remove(menuId);
+            if (menuIds.isEmpty()) {
+                menuIdsByProductId.remove(productId);
+            }
+        }
+        overpricedAggregates.remove(menuId);
+    }
+}
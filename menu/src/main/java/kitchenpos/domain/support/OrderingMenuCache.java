@@ -0,0 +1,104 @@
+package kitchenpos.domain.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import kitchenpos.repository.MenuRepository;
+import kitchenpos.repository.OrderingMenu;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderingMenuCache {
+    private static final int MAX_SIZE = 1000;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final MenuRepository menuRepository;
+    private final Map<Long, OrderingMenu> orderingMenus = new LinkedHashMap<>(16, LOAD_FACTOR, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, OrderingMenu> eldest) {
+            final var overflowed = size() > MAX_SIZE;
+            if (overflowed) {
+                evictionCount++;
+            }
+            return overflowed;
+        }
+    };
+    private long generation;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long evictionCount;
+
+    public OrderingMenuCache(final MenuRepository menuRepository) {
+        this.menuRepository = menuRepository;
+    }
+
+    public List<OrderingMenu> findByIdIn(final Collection<Long> menuIds) {
+        final var found = new ArrayList<OrderingMenu>();
+        final var missedMenuIds = new ArrayList<Long>();
+        final long loadingGeneration;
+
+        synchronized (this) {
+            for (final Long menuId : menuIds) {
+                final var orderingMenu = orderingMenus.get(menuId);
+                if (Objects.isNull(orderingMenu)) {
+                    missedMenuIds.add(menuId);
+                    continue;
+                }
+                found.add(orderingMenu);
+            }
+            hitCount += found.size();
+            missCount += missedMenuIds.size();
+            loadingGeneration = generation;
+        }
+
+        if (missedMenuIds.isEmpty()) {
+            return found;
+        }
+
+        final var loaded = menuRepository.findByIdIn(missedMenuIds);
+        putAll(loaded, loadingGeneration);
+        found.addAll(loaded);
+
+        return found;
+    }
+
+    private synchronized void putAll(final List<OrderingMenu> loaded, final long loadingGeneration) {
+        if (generation != loadingGeneration) {
+            return;
+        }
+
+        for (final OrderingMenu orderingMenu : loaded) {
+            orderingMenus.put(orderingMenu.getMenuId(), orderingMenu);
+        }
+        putCount += loaded.size();
+    }
+
+    public synchronized void invalidateAll() {
+        orderingMenus.clear();
+        generation++;
+    }
+
+    public synchronized long size() {
+        return orderingMenus.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getPutCount() {
+        return putCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+}
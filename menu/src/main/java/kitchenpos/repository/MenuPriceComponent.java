@@ -0,0 +1,55 @@
+package kitchenpos.repository;
+
+import java.math.BigDecimal;
+import kitchenpos.domain.vo.MenuPrice;
+import kitchenpos.domain.vo.ProductPrice;
+
+public class MenuPriceComponent {
+    private Long menuId;
+    private String menuName;
+    private BigDecimal menuPrice;
+    private Long productId;
+    private long quantity;
+    private BigDecimal productPrice;
+
+    protected MenuPriceComponent() {
+    }
+
+    public MenuPriceComponent(final Long menuId, final String menuName, final MenuPrice menuPrice,
+                              final Long productId, final long quantity, final ProductPrice productPrice) {
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.menuPrice = menuPrice.getValue();
+        this.productId = productId;
+        this.quantity = quantity;
+        this.productPrice = productPrice.getValue();
+    }
+
+    public BigDecimal getComponentPrice() {
+        return productPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public BigDecimal getMenuPrice() {
+        return menuPrice;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getProductPrice() {
+        return productPrice;
+    }
+}
@@ -19,4 +19,16 @@ public interface MenuRepository extends Repository<Menu, Long> {
             + " where m.id in :menuIds")
     List<OrderingMenu> findByIdIn(@Param("menuIds") Collection<Long> menuIds);
 
+    @Query("select new kitchenpos.repository.MenuPriceComponent(m.id, m.name, m.price, p.id, mp.quantity, p.price)"
+            + " from Menu m"
+            + " join m.menuProducts.menuProducts mp"
+            + " join mp.product p")
+    List<MenuPriceComponent> findAllPriceComponents();
+
+    @Query("select new kitchenpos.repository.MenuPriceComponent(m.id, m.name, m.price, p.id, mp.quantity, p.price)"
+            + " from Menu m"
+            + " join m.menuProducts.menuProducts mp"
+            + " join mp.product p"
+            + " where m.id in :menuIds")
+    List<MenuPriceComponent> findPriceComponentsByMenuIdIn(@Param("menuIds") Collection<Long> menuIds);
 }
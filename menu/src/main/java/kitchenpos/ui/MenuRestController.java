@@ -3,8 +3,12 @@ package kitchenpos.ui;
 import java.net.URI;
 import java.util.List;
 import kitchenpos.application.MenuService;
+import kitchenpos.domain.support.MenuCatalog;
+import kitchenpos.domain.support.MenuPriceIndex;
 import kitchenpos.ui.dto.request.MenuCreateRequest;
 import kitchenpos.ui.dto.response.MenuResponse;
+import kitchenpos.ui.dto.response.OverpricedMenuResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -14,9 +18,14 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class MenuRestController {
     private final MenuService menuService;
+    private final MenuCatalog menuCatalog;
+    private final MenuPriceIndex menuPriceIndex;
 
-    public MenuRestController(final MenuService menuService) {
+    public MenuRestController(final MenuService menuService, final MenuCatalog menuCatalog,
+                              final MenuPriceIndex menuPriceIndex) {
         this.menuService = menuService;
+        this.menuCatalog = menuCatalog;
+        this.menuPriceIndex = menuPriceIndex;
     }
 
     @PostMapping("/api/menus")
@@ -31,12 +40,22 @@ public class MenuRestController {
     }
 
     @GetMapping("/api/menus")
-    public ResponseEntity<List<MenuResponse>> list() {
-        final var menus = menuService.list();
-        final var menuResponses = MenuResponse.from(menus);
+    public ResponseEntity<byte[]> list() {
+        final var catalog = menuCatalog.snapshot();
 
         return ResponseEntity.ok()
-                .body(menuResponses)
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(catalog.getETag())
+                .body(catalog.getBody())
+                ;
+    }
+
+    @GetMapping("/api/menus/overpriced")
+    public ResponseEntity<List<OverpricedMenuResponse>> listOverpriced() {
+        final var overpricedMenuResponses = OverpricedMenuResponse.from(menuPriceIndex.findOverpricedMenus());
+
+        return ResponseEntity.ok()
+                .body(overpricedMenuResponses)
                 ;
     }
 }
@@ -0,0 +1,55 @@
+package kitchenpos.ui.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import kitchenpos.domain.support.MenuPriceAggregate;
+
+public class OverpricedMenuResponse {
+    private Long id;
+    private String name;
+    private BigDecimal price;
+    private BigDecimal totalPriceOfMenuProducts;
+
+    public OverpricedMenuResponse() {
+    }
+
+    public OverpricedMenuResponse(final Long id, final String name, final BigDecimal price,
+                                  final BigDecimal totalPriceOfMenuProducts) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.totalPriceOfMenuProducts = totalPriceOfMenuProducts;
+    }
+
+    public static OverpricedMenuResponse from(final MenuPriceAggregate aggregate) {
+        return new OverpricedMenuResponse(
+                aggregate.getMenuId(),
+                aggregate.getMenuName(),
+                aggregate.getPrice(),
+                aggregate.getTotalPriceOfMenuProducts()
+        );
+    }
+
+    public static List<OverpricedMenuResponse> from(final List<MenuPriceAggregate> aggregates) {
+        return aggregates.stream()
+                .map(OverpricedMenuResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public BigDecimal getTotalPriceOfMenuProducts() {
+        return totalPriceOfMenuProducts;
+    }
+}
@@ -1,14 +1,25 @@
 package kitchenpos.application;
 
 import java.util.List;
+import java.util.function.Consumer;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderCreationResult;
 import kitchenpos.ui.dto.request.OrderChangeStatusRequest;
 import kitchenpos.ui.dto.request.OrderCreateRequest;
+import kitchenpos.ui.dto.request.OrderSearchRequest;
+import kitchenpos.ui.dto.response.OrderResponse;
+import org.springframework.data.domain.Slice;
 
 public interface OrderService {
     Order create(OrderCreateRequest request);
 
+    List<OrderCreationResult> createAll(List<OrderCreateRequest> requests);
+
     List<Order> list();
 
+    Slice<Order> list(OrderSearchRequest request);
+
+    void exportAll(Consumer<OrderResponse> consumer);
+
     Order changeOrderStatus(Long orderId, OrderChangeStatusRequest request);
 }
@@ -0,0 +1,11 @@
+package kitchenpos.application;
+
+import java.util.List;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.repository.OrderSummaryStatistics;
+
+public interface OrderSummaryService {
+    List<OrderSummary> list(Long orderTableId, String orderStatus);
+
+    List<OrderSummaryStatistics> statistics();
+}
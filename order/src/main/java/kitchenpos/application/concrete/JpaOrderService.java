@@ -1,25 +1,53 @@
 package kitchenpos.application.concrete;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
 import kitchenpos.application.OrderService;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderCreationResult;
 import kitchenpos.domain.OrderMapper;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.support.OptimisticLockRetry;
+import kitchenpos.exception.badrequest.OrderBatchSizeInvalidException;
+import kitchenpos.exception.badrequest.PageSizeInvalidException;
 import kitchenpos.repository.OrderRepository;
 import kitchenpos.ui.dto.request.OrderChangeStatusRequest;
 import kitchenpos.ui.dto.request.OrderCreateRequest;
+import kitchenpos.ui.dto.request.OrderSearchRequest;
+import kitchenpos.ui.dto.response.OrderLineItemResponse;
+import kitchenpos.ui.dto.response.OrderResponse;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
 @Transactional(readOnly = true)
 @Service
 public class JpaOrderService implements OrderService {
+    private static final long FIRST_CURSOR = 0L;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int EXPORT_CLEAR_INTERVAL = 1000;
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final OrderMapper orderMapper;
     private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final OptimisticLockRetry optimisticLockRetry;
 
-    public JpaOrderService(final OrderMapper orderMapper, final OrderRepository orderRepository) {
+    public JpaOrderService(final OrderMapper orderMapper, final OrderRepository orderRepository,
+                           final EntityManager entityManager, final OptimisticLockRetry optimisticLockRetry) {
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
+        this.entityManager = entityManager;
+        this.optimisticLockRetry = optimisticLockRetry;
     }
 
     @Transactional
@@ -30,17 +58,117 @@ public class JpaOrderService implements OrderService {
         return orderRepository.save(order);
     }
 
+    @Transactional
+    @Override
+    public List<OrderCreationResult> createAll(final List<OrderCreateRequest> requests) {
+        validateBatchSize(requests);
+        final var results = orderMapper.mapAllFrom(requests);
+        final var orders = results.stream()
+                .filter(OrderCreationResult::isSuccess)
+                .map(OrderCreationResult::getOrder)
+                .collect(Collectors.toList());
+
+        orderRepository.saveAll(orders);
+
+        return results;
+    }
+
+    private void validateBatchSize(final List<OrderCreateRequest> requests) {
+        if (CollectionUtils.isEmpty(requests)) {
+            throw new OrderBatchSizeInvalidException();
+        }
+
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new OrderBatchSizeInvalidException(requests.size());
+        }
+    }
+
     @Override
     public List<Order> list() {
         return orderRepository.findAll();
     }
 
-    @Transactional
+    @Override
+    public Slice<Order> list(final OrderSearchRequest request) {
+        final var pageSize = validatePageSize(request.getSize());
+        final var orderIds = orderRepository.findIdsAfterCursor(
+                Objects.requireNonNullElse(request.getCursor(), FIRST_CURSOR),
+                parseOrderStatus(request.getOrderStatus()),
+                request.getOrderTableId(),
+                request.getOrderedTimeFrom(),
+                request.getOrderedTimeTo(),
+                PageRequest.of(0, pageSize + 1)
+        );
+
+        final var hasNext = orderIds.size() > pageSize;
+        final var pageOrderIds = hasNext ? orderIds.subList(0, pageSize) : orderIds;
+        final var orders = pageOrderIds.isEmpty()
+                ? List.<Order>of()
+                : orderRepository.findAllWithOrderLineItemsByIdIn(pageOrderIds);
+
+        return new SliceImpl<>(orders, PageRequest.of(0, pageSize), hasNext);
+    }
+
+    @Override
+    public void exportAll(final Consumer<OrderResponse> consumer) {
+        try (final var orderLineItems = orderRepository.streamAllOrderLineItemsOrderByOrderId()) {
+            final var iterator = orderLineItems.iterator();
+            Order currentOrder = null;
+            List<OrderLineItemResponse> currentOrderLineItems = new ArrayList<>();
+            long readCount = 0;
+
+            while (iterator.hasNext()) {
+                final var orderLineItem = iterator.next();
+                final var order = orderLineItem.getOrder();
+
+                if (Objects.nonNull(currentOrder) && !Objects.equals(currentOrder.getId(), order.getId())) {
+                    consumer.accept(OrderResponse.of(currentOrder, currentOrderLineItems));
+                    currentOrderLineItems = new ArrayList<>();
+                }
+                currentOrder = order;
+                currentOrderLineItems.add(OrderLineItemResponse.from(orderLineItem));
+
+                if (++readCount % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+
+            if (Objects.nonNull(currentOrder)) {
+                consumer.accept(OrderResponse.of(currentOrder, currentOrderLineItems));
+            }
+        }
+    }
+
+    private int validatePageSize(final Integer size) {
+        if (Objects.isNull(size)) {
+            return DEFAULT_PAGE_SIZE;
+        }
+
+        if (size <= 0) {
+            throw new PageSizeInvalidException(size);
+        }
+
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private OrderStatus parseOrderStatus(final String orderStatus) {
+        if (Objects.isNull(orderStatus)) {
+            return null;
+        }
+
+        return OrderStatus.from(orderStatus);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Override
     public Order changeOrderStatus(final Long orderId, final OrderChangeStatusRequest request) {
         final var orderStatus = OrderStatus.from(request.getOrderStatus());
-        final var order = orderRepository.getById(orderId);
 
-        return order.changeOrderStatus(orderStatus);
+        return optimisticLockRetry.execute(() -> {
+            final var order = orderRepository.getById(orderId)
+                    .changeOrderStatus(orderStatus);
+
+            return orderRepository.save(order);
+        });
     }
 }
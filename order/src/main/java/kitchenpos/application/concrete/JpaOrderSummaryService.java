@@ -0,0 +1,39 @@
+package kitchenpos.application.concrete;
+
+import java.util.List;
+import java.util.Objects;
+import kitchenpos.application.OrderSummaryService;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.repository.OrderSummaryRepository;
+import kitchenpos.repository.OrderSummaryStatistics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+@Service
+public class JpaOrderSummaryService implements OrderSummaryService {
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    public JpaOrderSummaryService(final OrderSummaryRepository orderSummaryRepository) {
+        this.orderSummaryRepository = orderSummaryRepository;
+    }
+
+    @Override
+    public List<OrderSummary> list(final Long orderTableId, final String orderStatus) {
+        return orderSummaryRepository.findAllByCondition(orderTableId, parseOrderStatus(orderStatus));
+    }
+
+    @Override
+    public List<OrderSummaryStatistics> statistics() {
+        return orderSummaryRepository.findStatisticsGroupByOrderTableIdAndOrderStatus();
+    }
+
+    private OrderStatus parseOrderStatus(final String orderStatus) {
+        if (Objects.isNull(orderStatus)) {
+            return null;
+        }
+
+        return OrderStatus.from(orderStatus);
+    }
+}
@@ -0,0 +1,15 @@
+package kitchenpos.application.event;
+
+import kitchenpos.domain.Order;
+
+public class OrderCreatedEvent {
+    private final Order order;
+
+    public OrderCreatedEvent(final Order order) {
+        this.order = order;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+}
@@ -0,0 +1,34 @@
+package kitchenpos.application.event;
+
+import kitchenpos.domain.support.OrderEventFeed;
+import kitchenpos.domain.support.OrderFeedEvent;
+import kitchenpos.domain.support.OrderFeedPayload;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class OrderEventListener {
+    private final OrderEventFeed orderEventFeed;
+
+    public OrderEventListener(final OrderEventFeed orderEventFeed) {
+        this.orderEventFeed = orderEventFeed;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleOrderCreatedEvent(final OrderCreatedEvent orderCreatedEvent) {
+        final var order = orderCreatedEvent.getOrder();
+
+        orderEventFeed.append(OrderFeedEvent.ORDER_CREATED,
+                new OrderFeedPayload(order.getId(), order.getOrderTableId(), null, order.getOrderStatus().name()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleOrderStatusChangedEvent(final OrderStatusChangedEvent orderStatusChangedEvent) {
+        orderEventFeed.append(OrderFeedEvent.ORDER_STATUS_CHANGED, new OrderFeedPayload(
+                orderStatusChangedEvent.getOrderId(),
+                orderStatusChangedEvent.getOrderTableId(),
+                orderStatusChangedEvent.getPreviousOrderStatus().name(),
+                orderStatusChangedEvent.getOrderStatus().name()
+        ));
+    }
+}
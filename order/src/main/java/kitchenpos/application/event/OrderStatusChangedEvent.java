@@ -0,0 +1,34 @@
+package kitchenpos.application.event;
+
+import kitchenpos.domain.OrderStatus;
+
+public class OrderStatusChangedEvent {
+    private final Long orderId;
+    private final Long orderTableId;
+    private final OrderStatus previousOrderStatus;
+    private final OrderStatus orderStatus;
+
+    public OrderStatusChangedEvent(final Long orderId, final Long orderTableId, final OrderStatus previousOrderStatus,
+                                   final OrderStatus orderStatus) {
+        this.orderId = orderId;
+        this.orderTableId = orderTableId;
+        this.previousOrderStatus = previousOrderStatus;
+        this.orderStatus = orderStatus;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public OrderStatus getPreviousOrderStatus() {
+        return previousOrderStatus;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+}
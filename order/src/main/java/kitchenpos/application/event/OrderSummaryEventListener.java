@@ -0,0 +1,27 @@
+package kitchenpos.application.event;
+
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.repository.OrderSummaryRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class OrderSummaryEventListener {
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    public OrderSummaryEventListener(final OrderSummaryRepository orderSummaryRepository) {
+        this.orderSummaryRepository = orderSummaryRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleOrderCreatedEvent(final OrderCreatedEvent orderCreatedEvent) {
+        orderSummaryRepository.save(OrderSummary.from(orderCreatedEvent.getOrder()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void handleOrderStatusChangedEvent(final OrderStatusChangedEvent orderStatusChangedEvent) {
+        orderSummaryRepository.updateOrderStatus(orderStatusChangedEvent.getOrderId(),
+                orderStatusChangedEvent.getOrderStatus());
+    }
+}
@@ -12,17 +12,24 @@ import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.Version;
+import kitchenpos.application.event.OrderCreatedEvent;
+import kitchenpos.application.event.OrderStatusChangedEvent;
 import kitchenpos.exception.badrequest.OrderAlreadyCompletedException;
+import kitchenpos.exception.badrequest.OrderStatusTransitionInvalidException;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "orders")
 @Entity
-public class Order {
+public class Order extends AbstractAggregateRoot<Order> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_generator")
+    @SequenceGenerator(name = "orders_seq_generator", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
     @Column(name = "order_table_id")
     private Long orderTableId;
@@ -34,6 +41,9 @@ public class Order {
     private LocalDateTime orderedTime;
     @Embedded
     private OrderLineItems orderLineItems;
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
 
     protected Order() {
     }
@@ -45,6 +55,7 @@ public class Order {
         this.orderStatus = orderStatus;
         this.orderedTime = orderedTime;
         this.orderLineItems = new OrderLineItems(this, orderLineItems);
+        registerEvent(new OrderCreatedEvent(this));
     }
 
     public Order(final Long orderTableId, final OrderStatus orderStatus, final List<OrderLineItem> orderLineItems) {
@@ -57,15 +68,25 @@ public class Order {
     }
 
     public boolean isComplete() {
-        return this.orderStatus == OrderStatus.COMPLETION;
+        return this.orderStatus.isTerminal();
+    }
+
+    public boolean isActive() {
+        return this.orderStatus.isActive();
     }
 
     public Order changeOrderStatus(final OrderStatus orderStatus) {
         if (isComplete()) {
             throw new OrderAlreadyCompletedException(this.id);
         }
+        if (!this.orderStatus.canChangeTo(orderStatus)) {
+            throw new OrderStatusTransitionInvalidException(this.orderStatus.name(), String.valueOf(orderStatus));
+        }
+        final var previousOrderStatus = this.orderStatus;
         this.orderStatus = orderStatus;
 
+        registerEvent(new OrderStatusChangedEvent(this.id, this.orderTableId, previousOrderStatus, orderStatus));
+
         return this;
     }
 
@@ -0,0 +1,35 @@
+package kitchenpos.domain;
+
+import java.util.Objects;
+
+public class OrderCreationResult {
+    private static final String DEFAULT_FAILURE_MESSAGE = "잘못된 요청입니다";
+
+    private final Order order;
+    private final String failureMessage;
+
+    private OrderCreationResult(final Order order, final String failureMessage) {
+        this.order = order;
+        this.failureMessage = failureMessage;
+    }
+
+    public static OrderCreationResult success(final Order order) {
+        return new OrderCreationResult(order, null);
+    }
+
+    public static OrderCreationResult failure(final RuntimeException e) {
+        return new OrderCreationResult(null, Objects.requireNonNullElse(e.getMessage(), DEFAULT_FAILURE_MESSAGE));
+    }
+
+    public boolean isSuccess() {
+        return Objects.nonNull(order);
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+}
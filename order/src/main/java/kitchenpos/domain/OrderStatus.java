@@ -1,6 +1,12 @@
 package kitchenpos.domain;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import kitchenpos.exception.notfound.OrderStatusNotFoundException;
 
 public enum OrderStatus {
@@ -9,10 +15,53 @@ public enum OrderStatus {
     COMPLETION,
     ;
 
+    private static final Map<String, OrderStatus> STATUSES_BY_NAME;
+    private static final Set<OrderStatus> ACTIVE_STATUSES = Collections.unmodifiableSet(EnumSet.of(COOKING, MEAL));
+    private static final Set<OrderStatus> TERMINAL_STATUSES = Collections.unmodifiableSet(EnumSet.of(COMPLETION));
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        final var statusesByName = new TreeMap<String, OrderStatus>(String.CASE_INSENSITIVE_ORDER);
+        for (final OrderStatus orderStatus : values()) {
+            statusesByName.put(orderStatus.name(), orderStatus);
+        }
+        STATUSES_BY_NAME = Collections.unmodifiableMap(statusesByName);
+
+        TRANSITIONS.put(COOKING, Collections.unmodifiableSet(EnumSet.of(MEAL, COMPLETION)));
+        TRANSITIONS.put(MEAL, Collections.unmodifiableSet(EnumSet.of(COMPLETION)));
+        TRANSITIONS.put(COMPLETION, Collections.unmodifiableSet(EnumSet.noneOf(OrderStatus.class)));
+    }
+
     public static OrderStatus from(final String value) {
-        return Arrays.stream(values())
-                .filter(orderStatus -> orderStatus.name().equalsIgnoreCase(value))
-                .findAny()
-                .orElseThrow(() -> new OrderStatusNotFoundException(value));
+        if (Objects.isNull(value)) {
+            throw new OrderStatusNotFoundException(value);
+        }
+
+        final var orderStatus = STATUSES_BY_NAME.get(value);
+        if (Objects.isNull(orderStatus)) {
+            throw new OrderStatusNotFoundException(value);
+        }
+
+        return orderStatus;
+    }
+
+    public static Set<OrderStatus> activeStatuses() {
+        return ACTIVE_STATUSES;
+    }
+
+    public static Set<OrderStatus> terminalStatuses() {
+        return TERMINAL_STATUSES;
+    }
+
+    public boolean isActive() {
+        return ACTIVE_STATUSES.contains(this);
+    }
+
+    public boolean isTerminal() {
+        return TERMINAL_STATUSES.contains(this);
+    }
+
+    public boolean canChangeTo(final OrderStatus orderStatus) {
+        return TRANSITIONS.get(this).contains(orderStatus);
     }
 }
@@ -0,0 +1,118 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+public class OrderSummary implements Persistable<Long> {
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+    @Column(name = "order_table_id", nullable = false)
+    private Long orderTableId;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", nullable = false)
+    private OrderStatus orderStatus;
+    @Column(name = "item_count", nullable = false)
+    private long itemCount;
+    @Column(name = "total_amount", nullable = false)
+    private BigDecimal totalAmount;
+    @Column(name = "ordered_time", nullable = false, columnDefinition = "datetime")
+    private LocalDateTime orderedTime;
+    @Transient
+    private boolean isNew = true;
+
+    protected OrderSummary() {
+    }
+
+    public OrderSummary(final Long orderId, final Long orderTableId, final OrderStatus orderStatus,
+                        final long itemCount, final BigDecimal totalAmount, final LocalDateTime orderedTime) {
+        this.orderId = orderId;
+        this.orderTableId = orderTableId;
+        this.orderStatus = orderStatus;
+        this.itemCount = itemCount;
+        this.totalAmount = totalAmount;
+        this.orderedTime = orderedTime;
+    }
+
+    public static OrderSummary from(final Order order) {
+        final var orderLineItems = order.getOrderLineItems().getOrderLineItems();
+        final var itemCount = orderLineItems.stream()
+                .mapToLong(OrderLineItem::getQuantity)
+                .sum();
+        final var totalAmount = orderLineItems.stream()
+                .map(orderLineItem -> orderLineItem.getMenuPrice()
+                        .multiply(BigDecimal.valueOf(orderLineItem.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return new OrderSummary(order.getId(), order.getOrderTableId(), order.getOrderStatus(), itemCount,
+                totalAmount, order.getOrderedTime());
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public LocalDateTime getOrderedTime() {
+        return orderedTime;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OrderSummary)) {
+            return false;
+        }
+        OrderSummary orderSummary = (OrderSummary) o;
+        return Objects.equals(orderId, orderSummary.getOrderId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getOrderId());
+    }
+}
@@ -1,14 +1,18 @@
 package kitchenpos.domain;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import kitchenpos.domain.support.OrderingMenuCache;
+import kitchenpos.exception.KitchenPosException;
 import kitchenpos.exception.badrequest.OrderFailureOnEmptyOrderTableException;
 import kitchenpos.exception.badrequest.OrderTableIdInvalidException;
-import kitchenpos.repository.MenuRepository;
+import kitchenpos.exception.notfound.OrderTableNotFoundException;
 import kitchenpos.repository.OrderTableRepository;
 import kitchenpos.repository.OrderingMenu;
 import kitchenpos.ui.dto.request.OrderCreateRequest;
@@ -18,27 +22,88 @@ import org.springframework.util.CollectionUtils;
 
 @Component
 public class OrderMapper {
-    private final MenuRepository menuRepository;
+    private final OrderingMenuCache orderingMenuCache;
     private final OrderTableRepository orderTableRepository;
 
-    public OrderMapper(final MenuRepository menuRepository, final OrderTableRepository orderTableRepository) {
-        this.menuRepository = menuRepository;
+    public OrderMapper(final OrderingMenuCache orderingMenuCache, final OrderTableRepository orderTableRepository) {
+        this.orderingMenuCache = orderingMenuCache;
         this.orderTableRepository = orderTableRepository;
     }
 
     public Order mapFrom(final OrderCreateRequest request) {
-        final var orderTableId = validateOrderTableId(request.getOrderTableId());
-        final var orderLineItems = validateOrderLineItemRequests(request);
+        final var requests = List.of(request);
+
+        return mapFrom(request, findOrderTables(requests), findOrderingMenus(requests));
+    }
+
+    public List<OrderCreationResult> mapAllFrom(final List<OrderCreateRequest> requests) {
+        final var orderTables = findOrderTables(requests);
+        final var orderingMenus = findOrderingMenus(requests);
+
+        return requests.stream()
+                .map(request -> tryMapFrom(request, orderTables, orderingMenus))
+                .collect(Collectors.toList());
+    }
+
+    private OrderCreationResult tryMapFrom(final OrderCreateRequest request, final Map<Long, OrderTable> orderTables,
+                                           final Map<Long, OrderingMenu> orderingMenus) {
+        try {
+            return OrderCreationResult.success(mapFrom(request, orderTables, orderingMenus));
+        } catch (final KitchenPosException | IllegalArgumentException e) {
+            return OrderCreationResult.failure(e);
+        }
+    }
+
+    private Order mapFrom(final OrderCreateRequest request, final Map<Long, OrderTable> orderTables,
+                          final Map<Long, OrderingMenu> orderingMenus) {
+        final var orderTableId = validateOrderTableId(request.getOrderTableId(), orderTables);
+        final var orderLineItems = validateOrderLineItemRequests(request, orderingMenus);
 
         return new Order(orderTableId, OrderStatus.COOKING, orderLineItems);
     }
 
-    private long validateOrderTableId(final Long orderTableId) {
+    private Map<Long, OrderTable> findOrderTables(final List<OrderCreateRequest> requests) {
+        final var orderTableIds = requests.stream()
+                .map(OrderCreateRequest::getOrderTableId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (orderTableIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return orderTableRepository.findAllByIdIn(orderTableIds)
+                .stream()
+                .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+    }
+
+    private Map<Long, OrderingMenu> findOrderingMenus(final List<OrderCreateRequest> requests) {
+        final var menuIds = requests.stream()
+                .map(OrderCreateRequest::getOrderLineItems)
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .map(OrderLineItemRequest::getMenuId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (menuIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return orderingMenuCache.findByIdIn(menuIds)
+                .stream()
+                .collect(Collectors.toMap(OrderingMenu::getMenuId, Function.identity()));
+    }
+
+    private long validateOrderTableId(final Long orderTableId, final Map<Long, OrderTable> orderTables) {
         if (Objects.isNull(orderTableId)) {
             throw new OrderTableIdInvalidException(orderTableId);
         }
 
-        final var orderTable = orderTableRepository.getById(orderTableId);
+        final var orderTable = orderTables.get(orderTableId);
+        if (Objects.isNull(orderTable)) {
+            throw new OrderTableNotFoundException(orderTableId);
+        }
         if (orderTable.isEmpty()) {
             throw new OrderFailureOnEmptyOrderTableException(orderTableId);
         }
@@ -46,10 +111,11 @@ public class OrderMapper {
         return orderTable.getId();
     }
 
-    private List<OrderLineItem> validateOrderLineItemRequests(final OrderCreateRequest request) {
+    private List<OrderLineItem> validateOrderLineItemRequests(final OrderCreateRequest request,
+                                                              final Map<Long, OrderingMenu> orderingMenus) {
         final var orderLineItemRequests = validateEmpty(request);
         final var menuIds = extractMenuIds(orderLineItemRequests);
-        final var orderingMenus = validateOrderingMenus(menuIds);
+        validateOrderingMenus(menuIds, orderingMenus);
 
         return createOrderLineItems(orderLineItemRequests, orderingMenus);
     }
@@ -70,15 +136,10 @@ public class OrderMapper {
                 .collect(Collectors.toSet());
     }
 
-    private Map<Long, OrderingMenu> validateOrderingMenus(final Set<Long> menuIds) {
-        final var orderingMenus = menuRepository.findByIdIn(menuIds);
-
-        if (orderingMenus.size() != menuIds.size()) {
+    private void validateOrderingMenus(final Set<Long> menuIds, final Map<Long, OrderingMenu> orderingMenus) {
+        if (!orderingMenus.keySet().containsAll(menuIds)) {
             throw new IllegalArgumentException();
         }
-
-        return orderingMenus.stream()
-                .collect(Collectors.toMap(OrderingMenu::getMenuId, Function.identity()));
     }
 
     private List<OrderLineItem> createOrderLineItems(final List<OrderLineItemRequest> orderLineItemRequests,
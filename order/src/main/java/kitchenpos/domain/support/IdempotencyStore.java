@@ -0,0 +1,7 @@
+package kitchenpos.domain.support;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyStore {
+    <T> T computeIfAbsent(String idempotencyKey, byte[] requestBody, Class<T> responseType, Supplier<T> supplier);
+}
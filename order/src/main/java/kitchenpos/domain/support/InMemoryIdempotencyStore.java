@@ -0,0 +1,159 @@
+package kitchenpos.domain.support;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import kitchenpos.exception.badrequest.IdempotencyKeyReusedException;
+import kitchenpos.exception.badrequest.IdempotencyRequestInProgressException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofHours(1L);
+    private static final String REQUEST_DIGEST_ALGORITHM = "SHA-256";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final long waitTimeoutMillis;
+
+    public InMemoryIdempotencyStore(@Value("${kitchenpos.idempotency.wait-timeout-ms:10000}")
+                                    final long waitTimeoutMillis) {
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    @Override
+    public <T> T computeIfAbsent(final String idempotencyKey, final byte[] requestBody, final Class<T> responseType,
+                                 final Supplier<T> supplier) {
+        evict();
+
+        final var requestDigest = digest(requestBody);
+        while (true) {
+            final var now = System.currentTimeMillis();
+            final var created = new Entry(idempotencyKey, requestDigest, now);
+            final var entry = entries.merge(idempotencyKey, created,
+                    (existing, replacement) -> existing.isExpired(now) ? replacement : existing);
+
+            if (!entry.matches(requestDigest)) {
+                throw new IdempotencyKeyReusedException(idempotencyKey);
+            }
+            if (entry != created) {
+                final var response = entry.await(waitTimeoutMillis);
+                if (response == Entry.FAILED) {
+                    continue;
+                }
+                return responseType.cast(response);
+            }
+
+            insertionOrder.add(created);
+            return compute(created, supplier);
+        }
+    }
+
+    private <T> T compute(final Entry entry, final Supplier<T> supplier) {
+        try {
+            final var response = supplier.get();
+            entry.complete(response);
+            return response;
+        } catch (final Throwable e) {
+            entries.remove(entry.key, entry);
+            entry.fail();
+            throw e;
+        }
+    }
+
+    private byte[] digest(final byte[] requestBody) {
+        try {
+            return MessageDigest.getInstance(REQUEST_DIGEST_ALGORITHM).digest(requestBody);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void evict() {
+        final var now = System.currentTimeMillis();
+        var inFlightSkips = 0;
+
+        while (inFlightSkips <= entries.size()) {
+            final var oldest = insertionOrder.peek();
+            if (Objects.isNull(oldest)) {
+                return;
+            }
+
+            final var stale = entries.get(oldest.key) != oldest || oldest.isExpired(now);
+            final var overflowed = entries.size() > MAX_SIZE;
+            if (!stale && !overflowed) {
+                return;
+            }
+            if (!insertionOrder.remove(oldest)) {
+                continue;
+            }
+
+            if (stale || oldest.isDone()) {
+                entries.remove(oldest.key, oldest);
+                continue;
+            }
+            insertionOrder.add(oldest);
+            inFlightSkips++;
+        }
+    }
+
+    private static class Entry {
+        private static final Object FAILED = new Object();
+
+        private final String key;
+        private final byte[] requestDigest;
+        private final long createdAt;
+        private final CompletableFuture<Object> response = new CompletableFuture<>();
+
+        Entry(final String key, final byte[] requestDigest, final long createdAt) {
+            this.key = key;
+            this.requestDigest = requestDigest;
+            this.createdAt = createdAt;
+        }
+
+        boolean matches(final byte[] requestDigest) {
+            return MessageDigest.isEqual(this.requestDigest, requestDigest);
+        }
+
+        boolean isExpired(final long now) {
+            return response.isDone() && now - createdAt >= TIME_TO_LIVE.toMillis();
+        }
+
+        boolean isDone() {
+            return response.isDone();
+        }
+
+        void complete(final Object value) {
+            response.complete(value);
+        }
+
+        void fail() {
+            response.complete(FAILED);
+        }
+
+        Object await(final long timeoutMillis) {
+            try {
+                return response.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (final TimeoutException e) {
+                throw new IdempotencyRequestInProgressException(key);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IdempotencyRequestInProgressException(key);
+            } catch (final ExecutionException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package kitchenpos.domain.support;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+@Component
+public class OrderEventFeed implements DisposableBean {
+    private static final int BUFFER_CAPACITY = 1000;
+    private static final int SUBSCRIBER_QUEUE_CAPACITY = BUFFER_CAPACITY;
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final String RESET_EVENT_NAME = "reset";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final Deque<OrderFeedEvent> buffer = new ArrayDeque<>(BUFFER_CAPACITY);
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService sender = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "order-event-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long lastEventId;
+
+    public void append(final String name, final OrderFeedPayload data) {
+        synchronized (this) {
+            if (buffer.size() == BUFFER_CAPACITY) {
+                buffer.removeFirst();
+            }
+            final var event = new OrderFeedEvent(++lastEventId, name, data);
+            buffer.addLast(event);
+
+            subscribers.forEach(subscriber -> deliver(subscriber, toMessage(event)));
+        }
+    }
+
+    public SseEmitter subscribe(final Long resumeAfterEventId) {
+        final var emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        final var subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        synchronized (this) {
+            if (Objects.nonNull(resumeAfterEventId)) {
+                replay(subscriber, resumeAfterEventId);
+            }
+            subscribers.add(subscriber);
+        }
+
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order-feed.heartbeat-interval-ms:15000}",
+            initialDelayString = "${kitchenpos.order-feed.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> deliver(subscriber, SseEmitter.event().comment(HEARTBEAT_COMMENT)));
+    }
+
+    private void replay(final Subscriber subscriber, final long resumeAfterEventId) {
+        if (!canResumeAfter(resumeAfterEventId)) {
+            subscriber.offer(toResetMessage(lastEventId));
+            return;
+        }
+
+        eventsAfter(resumeAfterEventId).forEach(event -> subscriber.offer(toMessage(event)));
+    }
+
+    private boolean canResumeAfter(final long resumeAfterEventId) {
+        if (resumeAfterEventId > lastEventId) {
+            return false;
+        }
+
+        return buffer.isEmpty() || resumeAfterEventId >= buffer.getFirst().getId() - 1;
+    }
+
+    public synchronized List<OrderFeedEvent> eventsAfter(final long resumeAfterEventId) {
+        return buffer.stream()
+                .filter(event -> event.getId() > resumeAfterEventId)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    public synchronized long getLastEventId() {
+        return lastEventId;
+    }
+
+    private void deliver(final Subscriber subscriber, final SseEventBuilder message) {
+        if (subscriber.offer(message)) {
+            return;
+        }
+
+        subscribers.remove(subscriber);
+        subscriber.reset(toResetMessage(getLastEventId()));
+    }
+
+    private SseEventBuilder toMessage(final OrderFeedEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getId()))
+                .name(event.getName())
+                .data(event.getData());
+    }
+
+    private SseEventBuilder toResetMessage(final long resetEventId) {
+        return SseEmitter.event()
+                .id(String.valueOf(resetEventId))
+                .name(RESET_EVENT_NAME)
+                .data(resetEventId);
+    }
+
+    @Override
+    public void destroy() {
+        sender.shutdownNow();
+    }
+
+    private class Subscriber {
+        private final SseEmitter emitter;
+        private final Deque<SseEventBuilder> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closing;
+
+        Subscriber(final SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized boolean offer(final SseEventBuilder message) {
+            if (closing) {
+                return true;
+            }
+            if (queue.size() == SUBSCRIBER_QUEUE_CAPACITY) {
+                return false;
+            }
+
+            queue.addLast(message);
+            scheduleDrain();
+            return true;
+        }
+
+        synchronized void reset(final SseEventBuilder resetMessage) {
+            if (closing) {
+                return;
+            }
+
+            queue.clear();
+            queue.addLast(resetMessage);
+            closing = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining) {
+                return;
+            }
+
+            draining = true;
+            sender.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                final SseEventBuilder message;
+                final boolean complete;
+                synchronized (this) {
+                    message = queue.pollFirst();
+                    complete = Objects.isNull(message) && closing;
+                    if (Objects.isNull(message)) {
+                        draining = false;
+                    }
+                }
+
+                if (Objects.isNull(message)) {
+                    if (complete) {
+                        emitter.complete();
+                    }
+                    return;
+                }
+                if (!send(message)) {
+                    return;
+                }
+            }
+        }
+
+        private boolean send(final SseEventBuilder message) {
+            try {
+                emitter.send(message);
+                return true;
+            } catch (final IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                synchronized (this) {
+                    queue.clear();
+                    closing = true;
+                }
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package kitchenpos.domain.support;
+
+public class OrderFeedEvent {
+    public static final String ORDER_CREATED = "order-created";
+    public static final String ORDER_STATUS_CHANGED = "order-status-changed";
+
+    private final long id;
+    private final String name;
+    private final OrderFeedPayload data;
+
+    public OrderFeedEvent(final long id, final String name, final OrderFeedPayload data) {
+        this.id = id;
+        this.name = name;
+        this.data = data;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public OrderFeedPayload getData() {
+        return data;
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.domain.support;
+
+public class OrderFeedPayload {
+    private final Long orderId;
+    private final Long orderTableId;
+    private final String previousOrderStatus;
+    private final String orderStatus;
+
+    public OrderFeedPayload(final Long orderId, final Long orderTableId, final String previousOrderStatus,
+                            final String orderStatus) {
+        this.orderId = orderId;
+        this.orderTableId = orderTableId;
+        this.previousOrderStatus = previousOrderStatus;
+        this.orderStatus = orderStatus;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public String getPreviousOrderStatus() {
+        return previousOrderStatus;
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+}
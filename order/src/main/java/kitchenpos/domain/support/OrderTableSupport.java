@@ -1,6 +1,6 @@
 package kitchenpos.domain.support;
 
-import java.util.List;
+import java.util.Collection;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.validator.OrderExistenceChecker;
 import kitchenpos.repository.OrderRepository;
@@ -16,7 +16,15 @@ public class OrderTableSupport implements OrderExistenceChecker {
 
     @Override
     public boolean hasCookingOrMealOrderByOrderTableId(final Long orderTableId) {
-        return orderRepository.existsByOrderTableIdAndOrderStatusIn(
-                orderTableId, List.of(OrderStatus.COOKING, OrderStatus.MEAL));
+        return orderRepository.existsByOrderTableIdAndOrderStatusIn(orderTableId, OrderStatus.activeStatuses());
+    }
+
+    @Override
+    public boolean hasCookingOrMealOrderByOrderTableIdIn(final Collection<Long> orderTableIds) {
+        if (orderTableIds.isEmpty()) {
+            return false;
+        }
+
+        return orderRepository.existsByOrderTableIdInAndOrderStatusIn(orderTableIds, OrderStatus.activeStatuses());
     }
 }
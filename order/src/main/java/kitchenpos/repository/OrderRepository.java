@@ -1,18 +1,28 @@
 package kitchenpos.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.exception.badrequest.OrderIdInvalidException;
 import kitchenpos.exception.notfound.OrderNotFoundException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends Repository<Order, Long> {
     Order save(Order entity);
 
+    List<Order> saveAll(Iterable<Order> entities);
+
     default Order getById(Long id) {
         if (Objects.isNull(id)) {
             throw new OrderIdInvalidException(id);
@@ -25,7 +35,34 @@ public interface OrderRepository extends Repository<Order, Long> {
     @Query("select distinct o from Order o join fetch o.orderLineItems.orderLineItems")
     List<Order> findAll();
 
-    boolean existsByOrderTableIdAndOrderStatusIn(Long orderTableId, List<OrderStatus> orderStatuses);
+    @Query("select o.id from Order o"
+            + " where o.id > :cursor"
+            + " and (:orderStatus is null or o.orderStatus = :orderStatus)"
+            + " and (:orderTableId is null or o.orderTableId = :orderTableId)"
+            + " and (:orderedTimeFrom is null or o.orderedTime >= :orderedTimeFrom)"
+            + " and (:orderedTimeTo is null or o.orderedTime < :orderedTimeTo)"
+            + " order by o.id")
+    List<Long> findIdsAfterCursor(@Param("cursor") Long cursor,
+                                  @Param("orderStatus") OrderStatus orderStatus,
+                                  @Param("orderTableId") Long orderTableId,
+                                  @Param("orderedTimeFrom") LocalDateTime orderedTimeFrom,
+                                  @Param("orderedTimeTo") LocalDateTime orderedTimeTo,
+                                  Pageable pageable);
+
+    @Query("select distinct o from Order o left join fetch o.orderLineItems.orderLineItems"
+            + " where o.id in :orderIds"
+            + " order by o.id")
+    List<Order> findAllWithOrderLineItemsByIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("select oli from OrderLineItem oli join fetch oli.order o order by o.id, oli.seq")
+    Stream<OrderLineItem> streamAllOrderLineItemsOrderByOrderId();
+
+    boolean existsByOrderTableIdAndOrderStatusIn(Long orderTableId, Collection<OrderStatus> orderStatuses);
 
-    boolean existsByOrderTableIdInAndOrderStatusIn(List<Long> orderTableIds, List<OrderStatus> orderStatuses);
+    boolean existsByOrderTableIdInAndOrderStatusIn(Collection<Long> orderTableIds,
+                                                   Collection<OrderStatus> orderStatuses);
 }
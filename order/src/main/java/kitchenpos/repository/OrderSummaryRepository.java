@@ -0,0 +1,33 @@
+package kitchenpos.repository;
+
+import java.util.List;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderSummary;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OrderSummaryRepository extends Repository<OrderSummary, Long> {
+    OrderSummary save(OrderSummary entity);
+
+    @Query("select s from OrderSummary s"
+            + " where (:orderTableId is null or s.orderTableId = :orderTableId)"
+            + " and (:orderStatus is null or s.orderStatus = :orderStatus)"
+            + " order by s.orderId")
+    List<OrderSummary> findAllByCondition(@Param("orderTableId") Long orderTableId,
+                                          @Param("orderStatus") OrderStatus orderStatus);
+
+    @Query("select new kitchenpos.repository.OrderSummaryStatistics("
+            + "s.orderTableId, s.orderStatus, count(s), sum(s.itemCount), sum(s.totalAmount))"
+            + " from OrderSummary s"
+            + " group by s.orderTableId, s.orderStatus"
+            + " order by s.orderTableId, s.orderStatus")
+    List<OrderSummaryStatistics> findStatisticsGroupByOrderTableIdAndOrderStatus();
+
+    @Transactional
+    @Modifying
+    @Query("update OrderSummary s set s.orderStatus = :orderStatus where s.orderId = :orderId")
+    int updateOrderStatus(@Param("orderId") Long orderId, @Param("orderStatus") OrderStatus orderStatus);
+}
@@ -0,0 +1,44 @@
+package kitchenpos.repository;
+
+import java.math.BigDecimal;
+import kitchenpos.domain.OrderStatus;
+
+public class OrderSummaryStatistics {
+    private Long orderTableId;
+    private OrderStatus orderStatus;
+    private long orderCount;
+    private long itemCount;
+    private BigDecimal totalAmount;
+
+    protected OrderSummaryStatistics() {
+    }
+
+    public OrderSummaryStatistics(final Long orderTableId, final OrderStatus orderStatus, final Long orderCount,
+                                  final Long itemCount, final BigDecimal totalAmount) {
+        this.orderTableId = orderTableId;
+        this.orderStatus = orderStatus;
+        this.orderCount = orderCount;
+        this.itemCount = itemCount;
+        this.totalAmount = totalAmount;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+}
@@ -1,46 +1,138 @@
 package kitchenpos.ui;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import javax.servlet.http.HttpServletResponse;
 import kitchenpos.application.OrderService;
+import kitchenpos.domain.support.IdempotencyStore;
+import kitchenpos.domain.support.OrderEventFeed;
 import kitchenpos.ui.dto.request.OrderChangeStatusRequest;
 import kitchenpos.ui.dto.request.OrderCreateRequest;
+import kitchenpos.ui.dto.request.OrderSearchRequest;
+import kitchenpos.ui.dto.response.OrderCreationResponse;
 import kitchenpos.ui.dto.response.OrderResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 public class OrderRestController {
+    private static final String NEXT_CURSOR_HEADER = "Next-Cursor";
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final OrderEventFeed orderEventFeed;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(final OrderService orderService, final OrderEventFeed orderEventFeed,
+                               final IdempotencyStore idempotencyStore, final ObjectMapper objectMapper) {
         this.orderService = orderService;
+        this.orderEventFeed = orderEventFeed;
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/api/orders")
-    public ResponseEntity<OrderResponse> create(@RequestBody final OrderCreateRequest request) {
-        final var created = orderService.create(request);
-        final var orderCreateResponse = OrderResponse.from(created);
-        final var uri = URI.create("/api/orders/" + created.getId());
+    public ResponseEntity<OrderResponse> create(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+            @RequestBody final OrderCreateRequest request
+    ) {
+        final var orderCreateResponse = Objects.isNull(idempotencyKey)
+                ? createOrder(request)
+                : idempotencyStore.computeIfAbsent(idempotencyKey, toBytes(request), OrderResponse.class,
+                        () -> createOrder(request));
+        final var uri = URI.create("/api/orders/" + orderCreateResponse.getId());
 
         return ResponseEntity.created(uri)
                 .body(orderCreateResponse)
                 ;
     }
 
+    private OrderResponse createOrder(final OrderCreateRequest request) {
+        return OrderResponse.from(orderService.create(request));
+    }
+
+    private byte[] toBytes(final OrderCreateRequest request) {
+        try {
+            return objectMapper.writeValueAsBytes(request);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PostMapping("/api/orders/batch")
+    public ResponseEntity<List<OrderCreationResponse>> createAll(
+            @RequestBody final List<OrderCreateRequest> requests
+    ) {
+        final var results = orderService.createAll(requests);
+
+        return ResponseEntity.ok(OrderCreationResponse.from(results));
+    }
+
     @GetMapping("/api/orders")
-    public ResponseEntity<List<OrderResponse>> list() {
-        final var orders = orderService.list();
-        final var orderResponses = OrderResponse.from(orders);
+    public ResponseEntity<List<OrderResponse>> list(
+            @RequestParam(required = false) final Long cursor,
+            @RequestParam(required = false) final Integer size,
+            @RequestParam(required = false) final String orderStatus,
+            @RequestParam(required = false) final Long orderTableId,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime orderedTimeFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime orderedTimeTo
+    ) {
+        final var request = new OrderSearchRequest(cursor, size, orderStatus, orderTableId,
+                orderedTimeFrom, orderedTimeTo);
+        final var orders = orderService.list(request);
+        final var orderResponses = OrderResponse.from(orders.getContent());
+        final var response = ResponseEntity.ok();
 
-        return ResponseEntity.ok()
-                .body(orderResponses)
-                ;
+        if (orders.hasNext()) {
+            final var lastOrder = orderResponses.get(orderResponses.size() - 1);
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(lastOrder.getId()));
+        }
+
+        return response.body(orderResponses);
+    }
+
+    @GetMapping(value = "/api/orders/export", produces = APPLICATION_NDJSON_VALUE)
+    public void export(final HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        final var outputStream = response.getOutputStream();
+
+        orderService.exportAll(orderResponse -> writeLine(outputStream, orderResponse));
+        outputStream.flush();
+    }
+
+    private void writeLine(final OutputStream outputStream, final OrderResponse orderResponse) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(orderResponse));
+            outputStream.write(LINE_SEPARATOR);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @GetMapping(value = "/api/orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) final Long lastEventId) {
+        return orderEventFeed.subscribe(lastEventId);
     }
 
     @PutMapping("/api/orders/{orderId}/order-status")
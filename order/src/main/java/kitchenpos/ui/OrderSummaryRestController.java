@@ -0,0 +1,36 @@
+package kitchenpos.ui;
+
+import java.util.List;
+import kitchenpos.application.OrderSummaryService;
+import kitchenpos.ui.dto.response.OrderSummaryResponse;
+import kitchenpos.ui.dto.response.OrderSummaryStatisticsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class OrderSummaryRestController {
+    private final OrderSummaryService orderSummaryService;
+
+    public OrderSummaryRestController(final OrderSummaryService orderSummaryService) {
+        this.orderSummaryService = orderSummaryService;
+    }
+
+    @GetMapping("/api/order-summaries")
+    public ResponseEntity<List<OrderSummaryResponse>> list(
+            @RequestParam(required = false) final Long orderTableId,
+            @RequestParam(required = false) final String orderStatus
+    ) {
+        final var orderSummaries = orderSummaryService.list(orderTableId, orderStatus);
+
+        return ResponseEntity.ok(OrderSummaryResponse.from(orderSummaries));
+    }
+
+    @GetMapping("/api/order-summaries/statistics")
+    public ResponseEntity<List<OrderSummaryStatisticsResponse>> statistics() {
+        final var statistics = orderSummaryService.statistics();
+
+        return ResponseEntity.ok(OrderSummaryStatisticsResponse.from(statistics));
+    }
+}
@@ -0,0 +1,49 @@
+package kitchenpos.ui.dto.request;
+
+import java.time.LocalDateTime;
+
+public class OrderSearchRequest {
+    private Long cursor;
+    private Integer size;
+    private String orderStatus;
+    private Long orderTableId;
+    private LocalDateTime orderedTimeFrom;
+    private LocalDateTime orderedTimeTo;
+
+    public OrderSearchRequest() {
+    }
+
+    public OrderSearchRequest(final Long cursor, final Integer size, final String orderStatus, final Long orderTableId,
+                              final LocalDateTime orderedTimeFrom, final LocalDateTime orderedTimeTo) {
+        this.cursor = cursor;
+        this.size = size;
+        this.orderStatus = orderStatus;
+        this.orderTableId = orderTableId;
+        this.orderedTimeFrom = orderedTimeFrom;
+        this.orderedTimeTo = orderedTimeTo;
+    }
+
+    public Long getCursor() {
+        return cursor;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public LocalDateTime getOrderedTimeFrom() {
+        return orderedTimeFrom;
+    }
+
+    public LocalDateTime getOrderedTimeTo() {
+        return orderedTimeTo;
+    }
+}
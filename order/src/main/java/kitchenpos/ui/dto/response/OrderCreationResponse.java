@@ -0,0 +1,54 @@
+package kitchenpos.ui.dto.response;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import kitchenpos.domain.OrderCreationResult;
+
+public class OrderCreationResponse {
+    private int index;
+    private boolean success;
+    private OrderResponse order;
+    private String failureMessage;
+
+    public OrderCreationResponse() {
+    }
+
+    public OrderCreationResponse(final int index, final boolean success, final OrderResponse order,
+                                 final String failureMessage) {
+        this.index = index;
+        this.success = success;
+        this.order = order;
+        this.failureMessage = failureMessage;
+    }
+
+    public static OrderCreationResponse of(final int index, final OrderCreationResult result) {
+        if (result.isSuccess()) {
+            return new OrderCreationResponse(index, true, OrderResponse.from(result.getOrder()), null);
+        }
+
+        return new OrderCreationResponse(index, false, null, result.getFailureMessage());
+    }
+
+    public static List<OrderCreationResponse> from(final List<OrderCreationResult> results) {
+        return IntStream.range(0, results.size())
+                .mapToObj(index -> OrderCreationResponse.of(index, results.get(index)))
+                .collect(Collectors.toList());
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public OrderResponse getOrder() {
+        return order;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+}
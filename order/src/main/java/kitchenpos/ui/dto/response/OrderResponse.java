@@ -34,6 +34,16 @@ public class OrderResponse {
         );
     }
 
+    public static OrderResponse of(final Order order, final List<OrderLineItemResponse> orderLineItems) {
+        return new OrderResponse(
+                order.getId(),
+                order.getOrderTableId(),
+                order.getOrderStatus().name(),
+                order.getOrderedTime(),
+                orderLineItems
+        );
+    }
+
     public static List<OrderResponse> from(final List<Order> orders) {
         return orders.stream()
                 .map(OrderResponse::from)
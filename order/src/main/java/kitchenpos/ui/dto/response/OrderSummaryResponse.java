@@ -0,0 +1,71 @@
+package kitchenpos.ui.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import kitchenpos.domain.OrderSummary;
+
+public class OrderSummaryResponse {
+    private Long orderId;
+    private Long orderTableId;
+    private String orderStatus;
+    private long itemCount;
+    private BigDecimal totalAmount;
+    private LocalDateTime orderedTime;
+
+    public OrderSummaryResponse() {
+    }
+
+    public OrderSummaryResponse(final Long orderId, final Long orderTableId, final String orderStatus,
+                                final long itemCount, final BigDecimal totalAmount,
+                                final LocalDateTime orderedTime) {
+        this.orderId = orderId;
+        this.orderTableId = orderTableId;
+        this.orderStatus = orderStatus;
+        this.itemCount = itemCount;
+        this.totalAmount = totalAmount;
+        this.orderedTime = orderedTime;
+    }
+
+    public static OrderSummaryResponse from(final OrderSummary orderSummary) {
+        return new OrderSummaryResponse(
+                orderSummary.getOrderId(),
+                orderSummary.getOrderTableId(),
+                orderSummary.getOrderStatus().name(),
+                orderSummary.getItemCount(),
+                orderSummary.getTotalAmount(),
+                orderSummary.getOrderedTime()
+        );
+    }
+
+    public static List<OrderSummaryResponse> from(final List<OrderSummary> orderSummaries) {
+        return orderSummaries.stream()
+                .map(OrderSummaryResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public LocalDateTime getOrderedTime() {
+        return orderedTime;
+    }
+}
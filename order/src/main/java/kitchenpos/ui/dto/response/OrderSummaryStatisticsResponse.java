@@ -0,0 +1,62 @@
+package kitchenpos.ui.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import kitchenpos.repository.OrderSummaryStatistics;
+
+public class OrderSummaryStatisticsResponse {
+    private Long orderTableId;
+    private String orderStatus;
+    private long orderCount;
+    private long itemCount;
+    private BigDecimal totalAmount;
+
+    public OrderSummaryStatisticsResponse() {
+    }
+
+    public OrderSummaryStatisticsResponse(final Long orderTableId, final String orderStatus, final long orderCount,
+                                          final long itemCount, final BigDecimal totalAmount) {
+        this.orderTableId = orderTableId;
+        this.orderStatus = orderStatus;
+        this.orderCount = orderCount;
+        this.itemCount = itemCount;
+        this.totalAmount = totalAmount;
+    }
+
+    public static OrderSummaryStatisticsResponse from(final OrderSummaryStatistics statistics) {
+        return new OrderSummaryStatisticsResponse(
+                statistics.getOrderTableId(),
+                statistics.getOrderStatus().name(),
+                statistics.getOrderCount(),
+                statistics.getItemCount(),
+                statistics.getTotalAmount()
+        );
+    }
+
+    public static List<OrderSummaryStatisticsResponse> from(final List<OrderSummaryStatistics> statistics) {
+        return statistics.stream()
+                .map(OrderSummaryStatisticsResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+}
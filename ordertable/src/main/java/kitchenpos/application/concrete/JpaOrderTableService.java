@@ -2,13 +2,18 @@ package kitchenpos.application.concrete;
 
 import java.util.List;
 import kitchenpos.application.TableService;
+import kitchenpos.application.event.OrderTableChangedEvent;
 import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.support.OptimisticLockRetry;
+import kitchenpos.domain.support.OrderTableLocks;
 import kitchenpos.domain.validator.OrderTableValidator;
 import kitchenpos.repository.OrderTableRepository;
 import kitchenpos.ui.dto.request.OrderTableChangeEmptyRequest;
 import kitchenpos.ui.dto.request.OrderTableChangeNumberOfGuestsRequest;
 import kitchenpos.ui.dto.request.OrderTableCreateRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional(readOnly = true)
@@ -16,19 +21,30 @@ import org.springframework.transaction.annotation.Transactional;
 public class JpaOrderTableService implements TableService {
     private final OrderTableRepository orderTableRepository;
     private final OrderTableValidator orderTableValidator;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final OrderTableLocks orderTableLocks;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public JpaOrderTableService(final OrderTableRepository orderTableRepository,
-                                final OrderTableValidator orderTableValidator) {
+                                final OrderTableValidator orderTableValidator,
+                                final OptimisticLockRetry optimisticLockRetry,
+                                final OrderTableLocks orderTableLocks,
+                                final ApplicationEventPublisher applicationEventPublisher) {
         this.orderTableRepository = orderTableRepository;
         this.orderTableValidator = orderTableValidator;
+        this.optimisticLockRetry = optimisticLockRetry;
+        this.orderTableLocks = orderTableLocks;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Transactional
     @Override
     public OrderTable create(final OrderTableCreateRequest request) {
-        final var newOrderTable = new OrderTable(request.getNumberOfGuests(), request.isEmpty());
+        final var newOrderTable = orderTableRepository.save(
+                new OrderTable(request.getNumberOfGuests(), request.isEmpty()));
+        applicationEventPublisher.publishEvent(new OrderTableChangedEvent(newOrderTable));
 
-        return orderTableRepository.save(newOrderTable);
+        return newOrderTable;
     }
 
     @Override
@@ -36,18 +52,26 @@ public class JpaOrderTableService implements TableService {
         return orderTableRepository.findAll();
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Override
     public OrderTable changeEmpty(final Long orderTableId, final OrderTableChangeEmptyRequest request) {
-        return orderTableRepository.getById(orderTableId)
-                .changeEmpty(orderTableValidator, request.isEmpty());
+        return orderTableLocks.executeWith(orderTableId, () -> optimisticLockRetry.execute(
+                () -> publishChanged(orderTableRepository.getById(orderTableId)
+                        .changeEmpty(orderTableValidator, request.isEmpty()))));
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Override
     public OrderTable changeNumberOfGuests(final Long orderTableId,
                                            final OrderTableChangeNumberOfGuestsRequest request) {
-        return orderTableRepository.getById(orderTableId)
-                .changeNumberOfGuests(orderTableValidator, request.getNumberOfGuests());
+        return orderTableLocks.executeWith(orderTableId, () -> optimisticLockRetry.execute(
+                () -> publishChanged(orderTableRepository.getById(orderTableId)
+                        .changeNumberOfGuests(orderTableValidator, request.getNumberOfGuests()))));
+    }
+
+    private OrderTable publishChanged(final OrderTable orderTable) {
+        applicationEventPublisher.publishEvent(new OrderTableChangedEvent(orderTable));
+
+        return orderTable;
     }
 }
@@ -0,0 +1,15 @@
+package kitchenpos.application.event;
+
+import kitchenpos.domain.OrderTable;
+
+public class OrderTableChangedEvent {
+    private final OrderTable orderTable;
+
+    public OrderTableChangedEvent(final OrderTable orderTable) {
+        this.orderTable = orderTable;
+    }
+
+    public OrderTable getOrderTable() {
+        return orderTable;
+    }
+}
@@ -0,0 +1,19 @@
+package kitchenpos.application.event;
+
+import kitchenpos.domain.support.TableBoard;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class OrderTableEventListener {
+    private final TableBoard tableBoard;
+
+    public OrderTableEventListener(final TableBoard tableBoard) {
+        this.tableBoard = tableBoard;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleOrderTableChangedEvent(final OrderTableChangedEvent orderTableChangedEvent) {
+        tableBoard.apply(orderTableChangedEvent.getOrderTable());
+    }
+}
@@ -6,13 +6,16 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Version;
 import kitchenpos.domain.validator.OrderTableValidator;
 import kitchenpos.exception.badrequest.OrderTableNegativeNumberOfGuestsException;
 
 @Entity
 public class OrderTable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_table_seq_generator")
+    @SequenceGenerator(name = "order_table_seq_generator", sequenceName = "order_table_seq", allocationSize = 50)
     @Column(name = "id", columnDefinition = "bigint(20)")
     private Long id;
     @Column(name = "table_group_id")
@@ -21,6 +24,9 @@ public class OrderTable {
     private int numberOfGuests;
     @Column(name = "empty", nullable = false)
     private boolean empty;
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
 
     protected OrderTable() {
     }
@@ -89,4 +95,8 @@ public class OrderTable {
     public boolean isEmpty() {
         return empty;
     }
+
+    public long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,87 @@
+package kitchenpos.domain.support;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import kitchenpos.exception.OrderTableLockTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderTableLocks {
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long timeoutMillis;
+
+    public OrderTableLocks(@Value("${kitchenpos.table-lock.stripes:64}") final int stripeCount,
+                           @Value("${kitchenpos.table-lock.timeout-ms:5000}") final long timeoutMillis) {
+        final var size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public <T> T executeWith(final Long orderTableId, final Supplier<T> action) {
+        return executeWith(List.of(orderTableId), action);
+    }
+
+    public <T> T executeWith(final Collection<Long> orderTableIds, final Supplier<T> action) {
+        final var stripeIndexes = stripeIndexesOf(orderTableIds);
+        final var acquired = acquire(stripeIndexes, orderTableIds);
+
+        try {
+            return action.get();
+        } finally {
+            release(stripeIndexes, acquired);
+        }
+    }
+
+    private int[] stripeIndexesOf(final Collection<Long> orderTableIds) {
+        return orderTableIds.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    private int stripeOf(final Long orderTableId) {
+        final var hash = Long.hashCode(orderTableId);
+
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private int acquire(final int[] stripeIndexes, final Collection<Long> orderTableIds) {
+        var acquired = 0;
+
+        try {
+            for (final int stripeIndex : stripeIndexes) {
+                if (!stripes[stripeIndex].tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    throw new OrderTableLockTimeoutException(orderTableIds);
+                }
+                acquired++;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            release(stripeIndexes, acquired);
+            throw new OrderTableLockTimeoutException(orderTableIds);
+        } catch (final OrderTableLockTimeoutException e) {
+            release(stripeIndexes, acquired);
+            throw e;
+        }
+
+        return acquired;
+    }
+
+    private void release(final int[] stripeIndexes, final int acquired) {
+        for (int i = acquired - 1; i >= 0; i--) {
+            stripes[stripeIndexes[i]].unlock();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package kitchenpos.domain.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.repository.OrderTableRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class TableBoard {
+    private final OrderTableRepository orderTableRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private volatile TableBoardSnapshot snapshot;
+
+    public TableBoard(final OrderTableRepository orderTableRepository, final ObjectMapper objectMapper,
+                      final PlatformTransactionManager transactionManager) {
+        this.orderTableRepository = orderTableRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public TableBoardSnapshot snapshot() {
+        final var current = this.snapshot;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+
+        return rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized TableBoardSnapshot rebuild() {
+        this.snapshot = render(toEntries(load(orderTableRepository::findAll)));
+
+        return this.snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.table-board.reconcile-interval-ms:60000}",
+            initialDelayString = "${kitchenpos.table-board.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        final var loaded = toEntries(load(orderTableRepository::findAll));
+
+        synchronized (this) {
+            final var tables = new TreeMap<Long, TableBoardEntry>();
+            final var current = snapshot().getTables();
+
+            loaded.forEach((id, entry) -> tables.put(id, newerOf(entry, current.get(id))));
+            this.snapshot = render(tables);
+        }
+    }
+
+    public void refresh(final Collection<Long> orderTableIds) {
+        if (orderTableIds.isEmpty()) {
+            return;
+        }
+
+        applyAll(load(() -> orderTableRepository.findAllByIdIn(orderTableIds)));
+    }
+
+    public void refreshGroup(final Long tableGroupId) {
+        final var orderTableIds = snapshot().getTables().values().stream()
+                .filter(entry -> Objects.equals(entry.getTableGroupId(), tableGroupId))
+                .map(TableBoardEntry::getId)
+                .collect(Collectors.toList());
+
+        refresh(orderTableIds);
+    }
+
+    public void apply(final OrderTable orderTable) {
+        applyAll(List.of(orderTable));
+    }
+
+    public synchronized void applyAll(final Collection<OrderTable> orderTables) {
+        final var tables = new TreeMap<>(snapshot().getTables());
+
+        for (final OrderTable orderTable : orderTables) {
+            final var entry = TableBoardEntry.from(orderTable);
+            tables.put(entry.getId(), newerOf(entry, tables.get(entry.getId())));
+        }
+
+        this.snapshot = render(tables);
+    }
+
+    private TableBoardEntry newerOf(final TableBoardEntry entry, final TableBoardEntry existing) {
+        if (Objects.isNull(existing) || entry.isNotOlderThan(existing)) {
+            return entry;
+        }
+
+        return existing;
+    }
+
+    private List<OrderTable> load(final Supplier<List<OrderTable>> query) {
+        return transactionTemplate.execute(status -> query.get());
+    }
+
+    private SortedMap<Long, TableBoardEntry> toEntries(final List<OrderTable> orderTables) {
+        final var tables = new TreeMap<Long, TableBoardEntry>();
+        orderTables.forEach(orderTable -> tables.put(orderTable.getId(), TableBoardEntry.from(orderTable)));
+
+        return tables;
+    }
+
+    private TableBoardSnapshot render(final SortedMap<Long, TableBoardEntry> tables) {
+        final var orderTableResponses = tables.values().stream()
+                .map(TableBoardEntry::toResponse)
+                .collect(Collectors.toList());
+
+        try {
+            return TableBoardSnapshot.of(tables, objectMapper.writeValueAsBytes(orderTableResponses));
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package kitchenpos.domain.support;
+
+import kitchenpos.domain.OrderTable;
+import kitchenpos.ui.dto.response.OrderTableResponse;
+
+public class TableBoardEntry {
+    private final Long id;
+    private final Long tableGroupId;
+    private final int numberOfGuests;
+    private final boolean empty;
+    private final long version;
+
+    public TableBoardEntry(final Long id, final Long tableGroupId, final int numberOfGuests, final boolean empty,
+                           final long version) {
+        this.id = id;
+        this.tableGroupId = tableGroupId;
+        this.numberOfGuests = numberOfGuests;
+        this.empty = empty;
+        this.version = version;
+    }
+
+    public static TableBoardEntry from(final OrderTable orderTable) {
+        return new TableBoardEntry(orderTable.getId(), orderTable.getTableGroupId(), orderTable.getNumberOfGuests(),
+                orderTable.isEmpty(), orderTable.getVersion());
+    }
+
+    public boolean isNotOlderThan(final TableBoardEntry other) {
+        return this.version >= other.version;
+    }
+
+    public OrderTableResponse toResponse() {
+        return new OrderTableResponse(id, tableGroupId, numberOfGuests, empty);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTableGroupId() {
+        return tableGroupId;
+    }
+
+    public int getNumberOfGuests() {
+        return numberOfGuests;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,35 @@
+package kitchenpos.domain.support;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.springframework.util.DigestUtils;
+
+public class TableBoardSnapshot {
+    private final SortedMap<Long, TableBoardEntry> tables;
+    private final byte[] body;
+    private final String eTag;
+
+    private TableBoardSnapshot(final SortedMap<Long, TableBoardEntry> tables, final byte[] body, final String eTag) {
+        this.tables = tables;
+        this.body = body;
+        this.eTag = eTag;
+    }
+
+    public static TableBoardSnapshot of(final SortedMap<Long, TableBoardEntry> tables, final byte[] body) {
+        return new TableBoardSnapshot(Collections.unmodifiableSortedMap(new TreeMap<>(tables)), body,
+                "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+
+    public SortedMap<Long, TableBoardEntry> getTables() {
+        return tables;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+}
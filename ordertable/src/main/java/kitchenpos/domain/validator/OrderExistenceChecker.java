@@ -1,5 +1,9 @@
 package kitchenpos.domain.validator;
 
+import java.util.Collection;
+
 public interface OrderExistenceChecker {
     boolean hasCookingOrMealOrderByOrderTableId(Long orderTableId);
+
+    boolean hasCookingOrMealOrderByOrderTableIdIn(Collection<Long> orderTableIds);
 }
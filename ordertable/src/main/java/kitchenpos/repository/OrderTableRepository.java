@@ -4,8 +4,12 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import kitchenpos.domain.OrderTable;
+import kitchenpos.exception.badrequest.OrderTableGroupingConflictException;
 import kitchenpos.exception.notfound.OrderTableNotFoundException;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderTableRepository extends Repository<OrderTable, Long> {
     OrderTable save(OrderTable entity);
@@ -18,7 +22,45 @@ public interface OrderTableRepository extends Repository<OrderTable, Long> {
 
     List<OrderTable> findAll();
 
+    List<OrderTable> findAllByIdIn(Collection<Long> ids);
+
     List<OrderTable> findAllByIdInAndEmptyIsTrueAndTableGroupIdIsNull(Collection<Long> id);
 
+    @Query("select t.id from OrderTable t where t.id in :ids and t.empty = true and t.tableGroupId is null")
+    List<Long> findGroupableIdsByIdIn(@Param("ids") Collection<Long> ids);
+
     List<OrderTable> findAllByTableGroupId(Long tableGroupId);
+
+    @Query("select t.id from OrderTable t where t.tableGroupId = :tableGroupId")
+    List<Long> findIdsByTableGroupId(@Param("tableGroupId") Long tableGroupId);
+
+    long countByTableGroupId(Long tableGroupId);
+
+    long countByIdInAndTableGroupId(Collection<Long> ids, Long tableGroupId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update OrderTable t set t.tableGroupId = :tableGroupId, t.empty = false, t.version = t.version + 1"
+            + " where t.id in :ids and t.empty = true and t.tableGroupId is null")
+    int groupAllByIdIn(@Param("tableGroupId") Long tableGroupId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update OrderTable t set t.tableGroupId = null, t.version = t.version + 1"
+            + " where t.tableGroupId = :tableGroupId and t.empty = false")
+    int unGroupAllByTableGroupId(@Param("tableGroupId") Long tableGroupId);
+
+    default void groupAll(final Long tableGroupId, final Collection<Long> ids) {
+        final var groupedCount = groupAllByIdIn(tableGroupId, ids);
+
+        if (groupedCount != ids.size() && countByIdInAndTableGroupId(ids, tableGroupId) != ids.size()) {
+            throw new OrderTableGroupingConflictException(tableGroupId);
+        }
+    }
+
+    default void unGroupAll(final Long tableGroupId) {
+        unGroupAllByTableGroupId(tableGroupId);
+
+        if (countByTableGroupId(tableGroupId) != 0) {
+            throw new OrderTableGroupingConflictException(tableGroupId);
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package kitchenpos.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.LockTimeoutException;
+import javax.persistence.PessimisticLockException;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.exception.OrderTableLockTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class OrderTableRowLocks {
+    private static final String LOCK_TIMEOUT_HINT = "javax.persistence.lock.timeout";
+
+    private final EntityManager entityManager;
+    private final long lockTimeoutMillis;
+
+    public OrderTableRowLocks(final EntityManager entityManager,
+                              @Value("${kitchenpos.table-group.pessimistic-lock.timeout-ms:3000}")
+                              final long lockTimeoutMillis) {
+        this.entityManager = entityManager;
+        this.lockTimeoutMillis = lockTimeoutMillis;
+    }
+
+    public List<OrderTable> lockAllByIdIn(final Collection<Long> ids) {
+        try {
+            return entityManager.createQuery("select t from OrderTable t where t.id in :ids order by t.id",
+                            OrderTable.class)
+                    .setParameter("ids", ids)
+                    .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                    .setHint(LOCK_TIMEOUT_HINT, lockTimeoutMillis)
+                    .getResultList();
+        } catch (final PessimisticLockException | LockTimeoutException e) {
+            throw new OrderTableLockTimeoutException(ids);
+        }
+    }
+
+    public List<OrderTable> lockAllByIdInAndEmptyIsTrueAndTableGroupIdIsNull(final Collection<Long> ids) {
+        return lockAllByIdIn(ids).stream()
+                .filter(orderTable -> orderTable.isEmpty() && !orderTable.alreadyInGroup())
+                .collect(Collectors.toList());
+    }
+}
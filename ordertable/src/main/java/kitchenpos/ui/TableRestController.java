@@ -1,12 +1,13 @@
 package kitchenpos.ui;
 
 import java.net.URI;
-import java.util.List;
 import kitchenpos.application.TableService;
+import kitchenpos.domain.support.TableBoard;
 import kitchenpos.ui.dto.request.OrderTableChangeEmptyRequest;
 import kitchenpos.ui.dto.request.OrderTableChangeNumberOfGuestsRequest;
 import kitchenpos.ui.dto.request.OrderTableCreateRequest;
 import kitchenpos.ui.dto.response.OrderTableResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,9 +19,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class TableRestController {
     private final TableService tableService;
+    private final TableBoard tableBoard;
 
-    public TableRestController(final TableService tableService) {
+    public TableRestController(final TableService tableService, final TableBoard tableBoard) {
         this.tableService = tableService;
+        this.tableBoard = tableBoard;
     }
 
     @PostMapping("/api/tables")
@@ -35,12 +38,13 @@ public class TableRestController {
     }
 
     @GetMapping("/api/tables")
-    public ResponseEntity<List<OrderTableResponse>> list() {
-        final var orderTables = tableService.list();
-        final var orderTableResponses = OrderTableResponse.from(orderTables);
+    public ResponseEntity<byte[]> list() {
+        final var board = tableBoard.snapshot();
 
         return ResponseEntity.ok()
-                .body(orderTableResponses)
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(board.getETag())
+                .body(board.getBody())
                 ;
     }
 
@@ -1,11 +1,19 @@
 package kitchenpos.application;
 
+import java.io.Reader;
 import java.util.List;
 import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductImportReport;
+import kitchenpos.domain.support.ProductImportFormat;
 import kitchenpos.ui.dto.request.ProductCreateRequest;
+import kitchenpos.ui.dto.request.ProductPriceChangeRequest;
 
 public interface ProductService {
     Product create(ProductCreateRequest request);
 
     List<Product> list();
+
+    Product changePrice(Long productId, ProductPriceChangeRequest request);
+
+    ProductImportReport importAll(ProductImportFormat format, Reader reader);
 }
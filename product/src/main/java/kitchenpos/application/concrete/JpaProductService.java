@@ -1,33 +1,167 @@
 package kitchenpos.application.concrete;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 import kitchenpos.application.ProductService;
+import kitchenpos.application.event.ProductCreatedEvent;
+import kitchenpos.application.event.ProductPriceChangedEvent;
+import kitchenpos.application.event.ProductsImportedEvent;
 import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductImportReport;
+import kitchenpos.domain.support.ProductImportFormat;
+import kitchenpos.domain.support.ProductImportLineReader;
+import kitchenpos.domain.support.ProductImportParser;
 import kitchenpos.domain.vo.ProductPrice;
+import kitchenpos.exception.KitchenPosException;
+import kitchenpos.repository.ProductBatchRepository;
 import kitchenpos.repository.ProductRepository;
 import kitchenpos.ui.dto.request.ProductCreateRequest;
+import kitchenpos.ui.dto.request.ProductPriceChangeRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Transactional(readOnly = true)
 @Service
 public class JpaProductService implements ProductService {
     private final ProductRepository productRepository;
+    private final ProductBatchRepository productBatchRepository;
+    private final ProductImportParser productImportParser;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int importBatchSize;
+    private final int maxReportedImportFailures;
+    private final int maxImportLineLength;
 
-    public JpaProductService(final ProductRepository productRepository) {
+    public JpaProductService(final ProductRepository productRepository,
+                             final ProductBatchRepository productBatchRepository,
+                             final ProductImportParser productImportParser,
+                             final ApplicationEventPublisher applicationEventPublisher,
+                             final PlatformTransactionManager transactionManager,
+                             @Value("${kitchenpos.product-import.batch-size:500}")
+                             final int importBatchSize,
+                             @Value("${kitchenpos.product-import.max-reported-failures:1000}")
+                             final int maxReportedImportFailures,
+                             @Value("${kitchenpos.product-import.max-line-length:4096}")
+                             final int maxImportLineLength) {
         this.productRepository = productRepository;
+        this.productBatchRepository = productBatchRepository;
+        this.productImportParser = productImportParser;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.importBatchSize = importBatchSize;
+        this.maxReportedImportFailures = maxReportedImportFailures;
+        this.maxImportLineLength = maxImportLineLength;
     }
 
     @Transactional
     @Override
     public Product create(final ProductCreateRequest request) {
-        final var newProduct = new Product(request.getName(), ProductPrice.from(request.getPrice()));
+        final var newProduct = productRepository.save(
+                new Product(request.getName(), ProductPrice.from(request.getPrice())));
+        applicationEventPublisher.publishEvent(new ProductCreatedEvent(newProduct));
 
-        return productRepository.save(newProduct);
+        return newProduct;
     }
 
     @Override
     public List<Product> list() {
         return productRepository.findAll();
     }
+
+    @Transactional
+    @Override
+    public Product changePrice(final Long productId, final ProductPriceChangeRequest request) {
+        final var product = productRepository.getById(productId);
+        product.changePrice(ProductPrice.from(request.getPrice()));
+        applicationEventPublisher.publishEvent(new ProductPriceChangedEvent(product));
+
+        return product;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public ProductImportReport importAll(final ProductImportFormat format, final Reader reader) {
+        final var report = new ProductImportReport(maxReportedImportFailures);
+        final var products = new ArrayList<Product>(importBatchSize);
+        final var lineNumbers = new ArrayList<Long>(importBatchSize);
+
+        try (final var lines = new ProductImportLineReader(reader, maxImportLineLength)) {
+            long lineNumber = 0;
+            while (lines.hasNextLine()) {
+                lineNumber++;
+                try {
+                    final var line = lines.nextLine();
+                    if (format.isSkippable(line)) {
+                        continue;
+                    }
+                    products.add(productImportParser.parse(format, line));
+                    lineNumbers.add(lineNumber);
+                } catch (final KitchenPosException | IllegalArgumentException e) {
+                    report.recordFailure(lineNumber, e);
+                }
+
+                if (products.size() >= importBatchSize) {
+                    flush(products, lineNumbers, report);
+                }
+            }
+            flush(products, lineNumbers, report);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return report;
+    }
+
+    private void flush(final List<Product> products, final List<Long> lineNumbers, final ProductImportReport report) {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        final var importedCount = insert(products)
+                ? products.size()
+                : insertOneByOne(products, lineNumbers, report);
+        if (importedCount > 0) {
+            report.recordImported(importedCount);
+            applicationEventPublisher.publishEvent(new ProductsImportedEvent(importedCount));
+        }
+
+        products.clear();
+        lineNumbers.clear();
+    }
+
+    private int insertOneByOne(final List<Product> products, final List<Long> lineNumbers,
+                               final ProductImportReport report) {
+        var importedCount = 0;
+        for (int i = 0; i < products.size(); i++) {
+            final var product = products.get(i);
+            if (insert(List.of(new Product(product.getName(), product.getPrice())))) {
+                importedCount++;
+                continue;
+            }
+            report.recordInsertFailure(lineNumbers.get(i));
+        }
+
+        return importedCount;
+    }
+
+    private boolean insert(final List<Product> products) {
+        try {
+            transactionTemplate.execute(status -> {
+                productBatchRepository.insertAll(products);
+                return products.size();
+            });
+            return true;
+        } catch (final DataAccessException e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package kitchenpos.application.event;
+
+import kitchenpos.domain.Product;
+
+public class ProductCreatedEvent {
+    private final Product product;
+
+    public ProductCreatedEvent(final Product product) {
+        this.product = product;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+}
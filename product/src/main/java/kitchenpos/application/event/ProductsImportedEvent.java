@@ -0,0 +1,13 @@
+package kitchenpos.application.event;
+
+public class ProductsImportedEvent {
+    private final int importedCount;
+
+    public ProductsImportedEvent(final int importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    public int getImportedCount() {
+        return importedCount;
+    }
+}
@@ -1,21 +1,28 @@
 package kitchenpos.domain;
 
 import java.util.Objects;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import kitchenpos.domain.vo.ProductPrice;
 import kitchenpos.exception.badrequest.PriceInvalidException;
 import kitchenpos.exception.badrequest.ProductNameInvalidException;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.util.StringUtils;
 
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Entity
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_generator")
+    @SequenceGenerator(name = "product_seq_generator", sequenceName = "product_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     @Column(name = "name", nullable = false)
@@ -39,6 +46,12 @@ public class Product {
         this(null, name, price);
     }
 
+    public void changePrice(final ProductPrice price) {
+        this.price = price;
+
+        validatePrice();
+    }
+
     private void validateName() {
         if (!StringUtils.hasText(this.name)) {
             throw new ProductNameInvalidException(this.name);
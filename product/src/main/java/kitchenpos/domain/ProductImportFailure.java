@@ -0,0 +1,19 @@
+package kitchenpos.domain;
+
+public class ProductImportFailure {
+    private final long lineNumber;
+    private final String failureMessage;
+
+    public ProductImportFailure(final long lineNumber, final String failureMessage) {
+        this.lineNumber = lineNumber;
+        this.failureMessage = failureMessage;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+}
@@ -0,0 +1,54 @@
+package kitchenpos.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class ProductImportReport {
+    private static final String DEFAULT_FAILURE_MESSAGE = "잘못된 요청입니다";
+    private static final String INSERT_FAILURE_MESSAGE = "프로덕트 저장에 실패했습니다";
+
+    private final int maxReportedFailures;
+    private final List<ProductImportFailure> failures = new ArrayList<>();
+    private long importedCount;
+    private long failedCount;
+
+    public ProductImportReport(final int maxReportedFailures) {
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    public void recordImported(final int count) {
+        importedCount += count;
+    }
+
+    public void recordFailure(final long lineNumber, final RuntimeException e) {
+        recordFailure(lineNumber, Objects.requireNonNullElse(e.getMessage(), DEFAULT_FAILURE_MESSAGE));
+    }
+
+    public void recordInsertFailure(final long lineNumber) {
+        recordFailure(lineNumber, INSERT_FAILURE_MESSAGE);
+    }
+
+    private void recordFailure(final long lineNumber, final String failureMessage) {
+        failedCount++;
+        if (failures.size() < maxReportedFailures) {
+            failures.add(new ProductImportFailure(lineNumber, failureMessage));
+        }
+    }
+
+    public boolean isFailuresTruncated() {
+        return failedCount > failures.size();
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public List<ProductImportFailure> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,18 @@
+package kitchenpos.domain.support;
+
+public enum ProductImportFormat {
+    CSV("name,price"),
+    NDJSON(null);
+
+    private final String header;
+
+    ProductImportFormat(final String header) {
+        this.header = header;
+    }
+
+    public boolean isSkippable(final String line) {
+        final var trimmed = line.trim();
+
+        return trimmed.isEmpty() || trimmed.replace(" ", "").equalsIgnoreCase(header);
+    }
+}
@@ -0,0 +1,69 @@
+package kitchenpos.domain.support;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import kitchenpos.exception.badrequest.ProductImportLineTooLongException;
+
+public class ProductImportLineReader implements Closeable {
+    private static final int END_OF_STREAM = -1;
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+
+    private final BufferedReader reader;
+    private final int maxLineLength;
+    private final StringBuilder line;
+
+    public ProductImportLineReader(final Reader reader, final int maxLineLength) {
+        this.reader = new BufferedReader(reader);
+        this.maxLineLength = maxLineLength;
+        this.line = new StringBuilder();
+    }
+
+    public boolean hasNextLine() throws IOException {
+        reader.mark(1);
+        if (reader.read() == END_OF_STREAM) {
+            return false;
+        }
+        reader.reset();
+
+        return true;
+    }
+
+    public String nextLine() throws IOException {
+        line.setLength(0);
+        var tooLong = false;
+
+        int character;
+        while ((character = reader.read()) != END_OF_STREAM && character != LINE_FEED) {
+            if (character == CARRIAGE_RETURN) {
+                skipLineFeed();
+                break;
+            }
+            if (line.length() == maxLineLength) {
+                tooLong = true;
+                continue;
+            }
+            line.append((char) character);
+        }
+
+        if (tooLong) {
+            throw new ProductImportLineTooLongException(maxLineLength);
+        }
+
+        return line.toString();
+    }
+
+    private void skipLineFeed() throws IOException {
+        reader.mark(1);
+        if (reader.read() != LINE_FEED) {
+            reader.reset();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,86 @@
+package kitchenpos.domain.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.vo.ProductPrice;
+import kitchenpos.exception.badrequest.ProductImportRowInvalidException;
+import kitchenpos.ui.dto.request.ProductCreateRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductImportParser {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final int CSV_COLUMN_COUNT = 2;
+
+    private final ObjectMapper objectMapper;
+
+    public ProductImportParser(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Product parse(final ProductImportFormat format, final String line) {
+        final var request = format == ProductImportFormat.CSV ? parseCsv(line) : parseNdjson(line);
+
+        return new Product(request.getName(), ProductPrice.from(request.getPrice()));
+    }
+
+    private ProductCreateRequest parseCsv(final String line) {
+        final var columns = splitCsv(line);
+        if (columns.size() != CSV_COLUMN_COUNT) {
+            throw new ProductImportRowInvalidException(line);
+        }
+
+        try {
+            return new ProductCreateRequest(columns.get(0).trim(), new BigDecimal(columns.get(1).trim()));
+        } catch (final NumberFormatException e) {
+            throw new ProductImportRowInvalidException(line);
+        }
+    }
+
+    private List<String> splitCsv(final String line) {
+        final var columns = new ArrayList<String>(CSV_COLUMN_COUNT);
+        final var column = new StringBuilder();
+        var quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            final var character = line.charAt(i);
+            if (quoted && character == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                column.append(QUOTE);
+                i++;
+            } else if (character == QUOTE) {
+                quoted = !quoted;
+            } else if (!quoted && character == SEPARATOR) {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(character);
+            }
+        }
+
+        if (quoted) {
+            throw new ProductImportRowInvalidException(line);
+        }
+        columns.add(column.toString());
+
+        return columns;
+    }
+
+    private ProductCreateRequest parseNdjson(final String line) {
+        try {
+            final var request = objectMapper.readValue(line, ProductCreateRequest.class);
+            if (Objects.isNull(request)) {
+                throw new ProductImportRowInvalidException(line);
+            }
+
+            return request;
+        } catch (final JsonProcessingException e) {
+            throw new ProductImportRowInvalidException(line);
+        }
+    }
+}
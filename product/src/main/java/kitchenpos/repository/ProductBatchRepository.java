@@ -0,0 +1,21 @@
+package kitchenpos.repository;
+
+import java.util.List;
+import javax.persistence.EntityManager;
+import kitchenpos.domain.Product;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ProductBatchRepository {
+    private final EntityManager entityManager;
+
+    public ProductBatchRepository(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public void insertAll(final List<Product> products) {
+        products.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -2,13 +2,28 @@ package kitchenpos.repository;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.persistence.QueryHint;
 import kitchenpos.domain.Product;
+import kitchenpos.exception.notfound.ProductNotFoundException;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 
 public interface ProductRepository extends Repository<Product, Long> {
     Product save(Product entity);
 
+    default Product getById(Long id) {
+        if (Objects.isNull(id)) {
+            throw new ProductNotFoundException();
+        }
+        return findById(id).orElseThrow(() -> new ProductNotFoundException(id));
+    }
+
+    Optional<Product> findById(Long id);
+
     List<Product> findAll();
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Product> findByIdIn(Collection<Long> productIds);
 }
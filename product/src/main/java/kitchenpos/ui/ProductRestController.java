@@ -1,18 +1,29 @@
 package kitchenpos.ui;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import kitchenpos.application.ProductService;
+import kitchenpos.domain.support.ProductImportFormat;
 import kitchenpos.ui.dto.request.ProductCreateRequest;
+import kitchenpos.ui.dto.request.ProductPriceChangeRequest;
+import kitchenpos.ui.dto.response.ProductImportResponse;
 import kitchenpos.ui.dto.response.ProductResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class ProductRestController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final ProductService productService;
 
     public ProductRestController(final ProductService productService) {
@@ -39,4 +50,31 @@ public class ProductRestController {
                 .body(productResponses)
                 ;
     }
+
+    @PutMapping("/api/products/{productId}/price")
+    public ResponseEntity<ProductResponse> changePrice(
+            @PathVariable final Long productId,
+            @RequestBody final ProductPriceChangeRequest request
+    ) {
+        final var changedProduct = productService.changePrice(productId, request);
+        final var productResponse = ProductResponse.from(changedProduct);
+
+        return ResponseEntity.ok(productResponse);
+    }
+
+    @PostMapping(value = "/api/products/import", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<ProductImportResponse> importCsv(final InputStream body) {
+        return importAll(ProductImportFormat.CSV, body);
+    }
+
+    @PostMapping(value = "/api/products/import", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ProductImportResponse> importNdjson(final InputStream body) {
+        return importAll(ProductImportFormat.NDJSON, body);
+    }
+
+    private ResponseEntity<ProductImportResponse> importAll(final ProductImportFormat format, final InputStream body) {
+        final var report = productService.importAll(format, new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        return ResponseEntity.ok(ProductImportResponse.from(report));
+    }
 }
@@ -0,0 +1,18 @@
+package kitchenpos.ui.dto.request;
+
+import java.math.BigDecimal;
+
+public class ProductPriceChangeRequest {
+    private BigDecimal price;
+
+    public ProductPriceChangeRequest() {
+    }
+
+    public ProductPriceChangeRequest(final BigDecimal price) {
+        this.price = price;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+}
@@ -0,0 +1,28 @@
+package kitchenpos.ui.dto.response;
+
+import kitchenpos.domain.ProductImportFailure;
+
+public class ProductImportFailureResponse {
+    private long lineNumber;
+    private String failureMessage;
+
+    public ProductImportFailureResponse() {
+    }
+
+    public ProductImportFailureResponse(final long lineNumber, final String failureMessage) {
+        this.lineNumber = lineNumber;
+        this.failureMessage = failureMessage;
+    }
+
+    public static ProductImportFailureResponse from(final ProductImportFailure failure) {
+        return new ProductImportFailureResponse(failure.getLineNumber(), failure.getFailureMessage());
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+}
@@ -0,0 +1,49 @@
+package kitchenpos.ui.dto.response;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import kitchenpos.domain.ProductImportReport;
+
+public class ProductImportResponse {
+    private long importedCount;
+    private long failedCount;
+    private boolean failuresTruncated;
+    private List<ProductImportFailureResponse> failures;
+
+    public ProductImportResponse() {
+    }
+
+    public ProductImportResponse(final long importedCount, final long failedCount, final boolean failuresTruncated,
+                                 final List<ProductImportFailureResponse> failures) {
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.failuresTruncated = failuresTruncated;
+        this.failures = failures;
+    }
+
+    public static ProductImportResponse from(final ProductImportReport report) {
+        final var failures = report.getFailures()
+                .stream()
+                .map(ProductImportFailureResponse::from)
+                .collect(Collectors.toList());
+
+        return new ProductImportResponse(report.getImportedCount(), report.getFailedCount(),
+                report.isFailuresTruncated(), failures);
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public boolean isFailuresTruncated() {
+        return failuresTruncated;
+    }
+
+    public List<ProductImportFailureResponse> getFailures() {
+        return failures;
+    }
+}
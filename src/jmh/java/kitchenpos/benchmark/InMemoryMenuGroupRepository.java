@@ -0,0 +1,29 @@
+package kitchenpos.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.repository.MenuGroupRepository;
+
+public class InMemoryMenuGroupRepository implements MenuGroupRepository {
+    private final Map<Long, MenuGroup> menuGroups = new LinkedHashMap<>();
+
+    @Override
+    public MenuGroup save(final MenuGroup entity) {
+        menuGroups.put(entity.getId(), entity);
+        return entity;
+    }
+
+    @Override
+    public List<MenuGroup> findAll() {
+        return new ArrayList<>(menuGroups.values());
+    }
+
+    @Override
+    public Optional<MenuGroup> findById(final Long menuGroupId) {
+        return Optional.ofNullable(menuGroups.get(menuGroupId));
+    }
+}
@@ -0,0 +1,66 @@
+package kitchenpos.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import kitchenpos.domain.Menu;
+import kitchenpos.repository.MenuPriceComponent;
+import kitchenpos.repository.MenuRepository;
+import kitchenpos.repository.OrderingMenu;
+
+public class InMemoryMenuRepository implements MenuRepository {
+    private final Map<Long, Menu> menus = new LinkedHashMap<>();
+    private final String menuGroupName;
+
+    public InMemoryMenuRepository(final String menuGroupName) {
+        this.menuGroupName = menuGroupName;
+    }
+
+    @Override
+    public Menu save(final Menu menu) {
+        menus.put(menu.getId(), menu);
+        return menu;
+    }
+
+    @Override
+    public List<Menu> findAll() {
+        return new ArrayList<>(menus.values());
+    }
+
+    @Override
+    public List<OrderingMenu> findByIdIn(final Collection<Long> menuIds) {
+        return menuIds.stream()
+                .map(menus::get)
+                .filter(Objects::nonNull)
+                .map(menu -> new OrderingMenu(menu.getId(), menu.getName(), menu.getPrice(), menuGroupName))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<MenuPriceComponent> findAllPriceComponents() {
+        return findPriceComponentsByMenuIdIn(menus.keySet());
+    }
+
+    @Override
+    public List<MenuPriceComponent> findPriceComponentsByMenuIdIn(final Collection<Long> menuIds) {
+        return menuIds.stream()
+                .map(menus::get)
+                .filter(Objects::nonNull)
+                .flatMap(this::toPriceComponents)
+                .collect(Collectors.toList());
+    }
+
+    private Stream<MenuPriceComponent> toPriceComponents(final Menu menu) {
+        return menu.getMenuProducts()
+                .getMenuProducts()
+                .stream()
+                .map(menuProduct -> new MenuPriceComponent(menu.getId(), menu.getName(), menu.getPrice(),
+                        menuProduct.getProduct().getId(), menuProduct.getQuantity(),
+                        menuProduct.getProduct().getPrice()));
+    }
+}
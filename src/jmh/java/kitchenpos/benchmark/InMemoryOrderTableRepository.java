@@ -0,0 +1,101 @@
+package kitchenpos.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.repository.OrderTableRepository;
+
+public class InMemoryOrderTableRepository implements OrderTableRepository {
+    private final Map<Long, OrderTable> orderTables = new LinkedHashMap<>();
+
+    @Override
+    public OrderTable save(final OrderTable entity) {
+        orderTables.put(entity.getId(), entity);
+        return entity;
+    }
+
+    @Override
+    public Optional<OrderTable> findById(final Long id) {
+        return Optional.ofNullable(orderTables.get(id));
+    }
+
+    @Override
+    public List<OrderTable> findAll() {
+        return new ArrayList<>(orderTables.values());
+    }
+
+    @Override
+    public List<OrderTable> findAllByIdIn(final Collection<Long> ids) {
+        return ids.stream()
+                .map(orderTables::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<OrderTable> findAllByIdInAndEmptyIsTrueAndTableGroupIdIsNull(final Collection<Long> ids) {
+        return findAllByIdIn(ids).stream()
+                .filter(orderTable -> orderTable.isEmpty() && Objects.isNull(orderTable.getTableGroupId()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Long> findGroupableIdsByIdIn(final Collection<Long> ids) {
+        return findAllByIdInAndEmptyIsTrueAndTableGroupIdIsNull(ids).stream()
+                .map(OrderTable::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<OrderTable> findAllByTableGroupId(final Long tableGroupId) {
+        return orderTables.values()
+                .stream()
+                .filter(orderTable -> Objects.equals(orderTable.getTableGroupId(), tableGroupId))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Long> findIdsByTableGroupId(final Long tableGroupId) {
+        return findAllByTableGroupId(tableGroupId).stream()
+                .map(OrderTable::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countByTableGroupId(final Long tableGroupId) {
+        return findAllByTableGroupId(tableGroupId).size();
+    }
+
+    @Override
+    public long countByIdInAndTableGroupId(final Collection<Long> ids, final Long tableGroupId) {
+        return findAllByIdIn(ids).stream()
+                .filter(orderTable -> Objects.equals(orderTable.getTableGroupId(), tableGroupId))
+                .count();
+    }
+
+    @Override
+    public int groupAllByIdIn(final Long tableGroupId, final Collection<Long> ids) {
+        final var targets = findAllByIdInAndEmptyIsTrueAndTableGroupIdIsNull(ids);
+        targets.forEach(orderTable -> save(
+                new OrderTable(orderTable.getId(), tableGroupId, orderTable.getNumberOfGuests(), false)));
+
+        return targets.size();
+    }
+
+    @Override
+    public int unGroupAllByTableGroupId(final Long tableGroupId) {
+        final var targets = findAllByTableGroupId(tableGroupId).stream()
+                .filter(orderTable -> !orderTable.isEmpty())
+                .collect(Collectors.toList());
+        targets.forEach(orderTable -> save(
+                new OrderTable(orderTable.getId(), null, orderTable.getNumberOfGuests(), orderTable.isEmpty())));
+
+        return targets.size();
+    }
+}
@@ -0,0 +1,40 @@
+package kitchenpos.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import kitchenpos.domain.Product;
+import kitchenpos.repository.ProductRepository;
+
+public class InMemoryProductRepository implements ProductRepository {
+    private final Map<Long, Product> products = new LinkedHashMap<>();
+
+    @Override
+    public Product save(final Product entity) {
+        products.put(entity.getId(), entity);
+        return entity;
+    }
+
+    @Override
+    public Optional<Product> findById(final Long id) {
+        return Optional.ofNullable(products.get(id));
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return new ArrayList<>(products.values());
+    }
+
+    @Override
+    public List<Product> findByIdIn(final Collection<Long> productIds) {
+        return productIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
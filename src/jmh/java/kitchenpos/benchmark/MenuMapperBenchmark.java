@@ -0,0 +1,62 @@
+package kitchenpos.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.mapper.MenuMapper;
+import kitchenpos.domain.vo.ProductPrice;
+import kitchenpos.ui.dto.request.MenuCreateRequest;
+import kitchenpos.ui.dto.request.MenuProductRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MenuMapperBenchmark {
+    private static final long MENU_GROUP_ID = 1L;
+    private static final BigDecimal PRODUCT_PRICE = new BigDecimal("16000.00");
+
+    @Param({"1", "10", "50"})
+    private int menuProductCount;
+
+    private MenuMapper menuMapper;
+    private MenuCreateRequest request;
+
+    @Setup
+    public void setUp() {
+        final var productRepository = new InMemoryProductRepository();
+        final var menuGroupRepository = new InMemoryMenuGroupRepository();
+        menuGroupRepository.save(new MenuGroup(MENU_GROUP_ID, "두 마리 메뉴"));
+
+        final var menuProducts = new ArrayList<MenuProductRequest>();
+        for (long productId = 1L; productId <= menuProductCount; productId++) {
+            productRepository.save(new Product(productId, "상품" + productId, ProductPrice.from(PRODUCT_PRICE)));
+            menuProducts.add(new MenuProductRequest(productId, 2L));
+        }
+
+        menuMapper = new MenuMapper(productRepository, menuGroupRepository);
+        request = new MenuCreateRequest("벤치마크 메뉴", PRODUCT_PRICE, MENU_GROUP_ID, List.copyOf(menuProducts));
+    }
+
+    @Benchmark
+    public Menu mapFrom() {
+        return menuMapper.mapFrom(request);
+    }
+}
@@ -0,0 +1,63 @@
+package kitchenpos.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderMapper;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.support.OrderingMenuCache;
+import kitchenpos.domain.vo.MenuPrice;
+import kitchenpos.ui.dto.request.OrderCreateRequest;
+import kitchenpos.ui.dto.request.OrderLineItemRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderMapperBenchmark {
+    private static final long ORDER_TABLE_ID = 1L;
+
+    @Param({"1", "10", "30"})
+    private int orderLineItemCount;
+
+    private OrderMapper orderMapper;
+    private OrderCreateRequest request;
+
+    @Setup
+    public void setUp() {
+        final var menuRepository = new InMemoryMenuRepository("두 마리 메뉴");
+        final var orderTableRepository = new InMemoryOrderTableRepository();
+        orderTableRepository.save(new OrderTable(ORDER_TABLE_ID, null, 4, false));
+
+        final var orderLineItems = new ArrayList<OrderLineItemRequest>();
+        for (long menuId = 1L; menuId <= orderLineItemCount; menuId++) {
+            menuRepository.save(new Menu(menuId, "메뉴" + menuId, MenuPrice.from(new BigDecimal("32000.00")), 1L,
+                    List.of()));
+            orderLineItems.add(new OrderLineItemRequest(menuId, 1L));
+        }
+
+        orderMapper = new OrderMapper(new OrderingMenuCache(menuRepository), orderTableRepository);
+        request = new OrderCreateRequest(ORDER_TABLE_ID, List.copyOf(orderLineItems));
+    }
+
+    @Benchmark
+    public Order mapFrom() {
+        return orderMapper.mapFrom(request);
+    }
+}
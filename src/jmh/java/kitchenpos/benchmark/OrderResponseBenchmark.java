@@ -0,0 +1,50 @@
+package kitchenpos.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.ui.dto.response.OrderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderResponseBenchmark {
+    @Param({"1", "10", "30"})
+    private int orderLineItemCount;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        final var orderLineItems = new ArrayList<OrderLineItem>();
+        for (long seq = 1L; seq <= orderLineItemCount; seq++) {
+            orderLineItems.add(new OrderLineItem(seq, null, seq, 1L, "메뉴" + seq, "두 마리 메뉴",
+                    new BigDecimal("32000.00")));
+        }
+
+        order = new Order(1L, 1L, OrderStatus.COOKING, LocalDateTime.now(), orderLineItems);
+    }
+
+    @Benchmark
+    public OrderResponse from() {
+        return OrderResponse.from(order);
+    }
+}
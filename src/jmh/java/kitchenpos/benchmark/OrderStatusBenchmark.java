@@ -0,0 +1,56 @@
+package kitchenpos.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.domain.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderStatusBenchmark {
+    @Param({"COOKING", "meal", "Completion"})
+    private String value;
+    private OrderStatus orderStatus;
+
+    @Setup
+    public void setUp() {
+        orderStatus = OrderStatus.from(value);
+    }
+
+    @Benchmark
+    public OrderStatus from() {
+        return OrderStatus.from(value);
+    }
+
+    @Benchmark
+    public OrderStatus streamFrom() {
+        return Arrays.stream(OrderStatus.values())
+                .filter(status -> status.name().equalsIgnoreCase(value))
+                .findAny()
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public boolean isActive() {
+        return orderStatus.isActive();
+    }
+
+    @Benchmark
+    public boolean canChangeToCompletion() {
+        return orderStatus.canChangeTo(OrderStatus.COMPLETION);
+    }
+}
@@ -0,0 +1,44 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V11__Create_aggregate_root_id_sequences extends BaseJavaMigration {
+    private static final int ALLOCATION_SIZE = 50;
+    private static final Map<String, String> SEQUENCE_BY_TABLE = Map.of(
+            "product", "product_seq",
+            "menu_group", "menu_group_seq",
+            "menu", "menu_seq",
+            "order_table", "order_table_seq",
+            "table_group", "table_group_seq"
+    );
+
+    @Override
+    public void migrate(final Context context) throws SQLException {
+        final var connection = context.getConnection();
+
+        for (final var entry : SEQUENCE_BY_TABLE.entrySet()) {
+            final var startWith = maxId(connection, entry.getKey()) + 1;
+            createSequence(connection, entry.getValue(), startWith);
+        }
+    }
+
+    private long maxId(final Connection connection, final String tableName) throws SQLException {
+        try (final var statement = connection.createStatement();
+             final var resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + tableName)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void createSequence(final Connection connection, final String sequenceName, final long startWith)
+            throws SQLException {
+        try (final var statement = connection.createStatement()) {
+            statement.execute(String.format("CREATE SEQUENCE %s START WITH %d INCREMENT BY %d",
+                    sequenceName, startWith, ALLOCATION_SIZE));
+        }
+    }
+}
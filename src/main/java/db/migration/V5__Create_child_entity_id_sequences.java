@@ -0,0 +1,41 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V5__Create_child_entity_id_sequences extends BaseJavaMigration {
+    private static final int ALLOCATION_SIZE = 50;
+    private static final Map<String, String> SEQUENCE_BY_TABLE = Map.of(
+            "order_line_item", "order_line_item_seq",
+            "menu_product", "menu_product_seq"
+    );
+
+    @Override
+    public void migrate(final Context context) throws SQLException {
+        final var connection = context.getConnection();
+
+        for (final var entry : SEQUENCE_BY_TABLE.entrySet()) {
+            final var startWith = maxSeq(connection, entry.getKey()) + 1;
+            createSequence(connection, entry.getValue(), startWith);
+        }
+    }
+
+    private long maxSeq(final Connection connection, final String tableName) throws SQLException {
+        try (final var statement = connection.createStatement();
+             final var resultSet = statement.executeQuery("SELECT COALESCE(MAX(seq), 0) FROM " + tableName)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void createSequence(final Connection connection, final String sequenceName, final long startWith)
+            throws SQLException {
+        try (final var statement = connection.createStatement()) {
+            statement.execute(String.format("CREATE SEQUENCE %s START WITH %d INCREMENT BY %d",
+                    sequenceName, startWith, ALLOCATION_SIZE));
+        }
+    }
+}
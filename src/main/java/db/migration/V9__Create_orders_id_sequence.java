@@ -0,0 +1,21 @@
+package db.migration;
+
+import java.sql.SQLException;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V9__Create_orders_id_sequence extends BaseJavaMigration {
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(final Context context) throws SQLException {
+        try (final var statement = context.getConnection().createStatement();
+             final var resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM orders")) {
+            resultSet.next();
+            final var startWith = resultSet.getLong(1) + 1;
+
+            statement.execute(String.format("CREATE SEQUENCE orders_seq START WITH %d INCREMENT BY %d",
+                    startWith, ALLOCATION_SIZE));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package kitchenpos.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.config.metrics.MethodMetricsAspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    @Bean
+    public MethodMetricsAspect methodMetricsAspect(final MeterRegistry meterRegistry) {
+        return new MethodMetricsAspect(meterRegistry);
+    }
+}
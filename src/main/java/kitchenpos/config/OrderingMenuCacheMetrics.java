@@ -0,0 +1,48 @@
+package kitchenpos.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import kitchenpos.domain.support.OrderingMenuCache;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderingMenuCacheMetrics extends CacheMeterBinder {
+    private static final String CACHE_NAME = "orderingMenu";
+
+    private final OrderingMenuCache orderingMenuCache;
+
+    public OrderingMenuCacheMetrics(final OrderingMenuCache orderingMenuCache) {
+        super(orderingMenuCache, CACHE_NAME, Tags.empty());
+        this.orderingMenuCache = orderingMenuCache;
+    }
+
+    @Override
+    protected Long size() {
+        return orderingMenuCache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        return orderingMenuCache.getHitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        return orderingMenuCache.getMissCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return orderingMenuCache.getEvictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        return orderingMenuCache.getPutCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(final MeterRegistry registry) {
+    }
+}
@@ -0,0 +1,59 @@
+package kitchenpos.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import kitchenpos.config.sql.SlowQueryLog;
+import kitchenpos.config.sql.SqlCountAspect;
+import kitchenpos.config.sql.SqlCountFilter;
+import kitchenpos.config.sql.SqlCountMetrics;
+import kitchenpos.config.sql.SqlCountingDataSource;
+import kitchenpos.config.sql.SqlTraceEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlCountConfig {
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor(
+            @Value("${kitchenpos.sql.slow-query-threshold-ms:0}") final long slowQueryThresholdMillis
+    ) {
+        final var slowQueryLog = new SlowQueryLog(slowQueryThresholdMillis);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource) {
+                    return SqlCountingDataSource.wrap((DataSource) bean, slowQueryLog);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlCountMetrics sqlCountMetrics(final MeterRegistry meterRegistry) {
+        return new SqlCountMetrics(meterRegistry);
+    }
+
+    @Bean
+    public SqlCountAspect sqlCountAspect(final SqlCountMetrics sqlCountMetrics) {
+        return new SqlCountAspect(sqlCountMetrics);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlCountFilter> sqlCountFilter(
+            final SqlCountMetrics sqlCountMetrics,
+            @Value("${kitchenpos.sql-count.response-header:false}") final boolean responseHeaderEnabled
+    ) {
+        return new FilterRegistrationBean<>(new SqlCountFilter(sqlCountMetrics, responseHeaderEnabled));
+    }
+
+    @Bean
+    public SqlTraceEndpoint sqlTraceEndpoint(final LoggingSystem loggingSystem) {
+        return new SqlTraceEndpoint(loggingSystem);
+    }
+}
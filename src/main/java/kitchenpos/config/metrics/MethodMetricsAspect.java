@@ -0,0 +1,127 @@
+package kitchenpos.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Aspect
+public class MethodMetricsAspect {
+    private static final String NO_EXCEPTION = "none";
+    private static final String KITCHENPOS_PACKAGE = "kitchenpos.";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    public MethodMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * kitchenpos.application.*Service.*(..))")
+    public Object timeService(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final var serviceName = joinPoint.getSignature().getDeclaringType().getSimpleName();
+
+        return time("kitchenpos.service", serviceName, joinPoint);
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final var repositoryName = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(),
+                this::repositoryNameOf);
+
+        return time("kitchenpos.repository", repositoryName, joinPoint);
+    }
+
+    private Object time(final String metricName, final String className, final ProceedingJoinPoint joinPoint)
+            throws Throwable {
+        final var methodName = joinPoint.getSignature().getName();
+        final var sample = Timer.start(meterRegistry);
+        var exception = NO_EXCEPTION;
+
+        try {
+            return joinPoint.proceed();
+        } catch (final Throwable e) {
+            exception = e.getClass().getSimpleName();
+            errorCounters.computeIfAbsent(new MeterKey(metricName, className, methodName, exception),
+                    this::errorCounterOf).increment();
+            throw e;
+        } finally {
+            sample.stop(timers.computeIfAbsent(new MeterKey(metricName, className, methodName, exception),
+                    this::timerOf));
+        }
+    }
+
+    private Timer timerOf(final MeterKey key) {
+        return Timer.builder(key.metricName)
+                .tags(key.tags())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter errorCounterOf(final MeterKey key) {
+        return Counter.builder(key.metricName + ".errors")
+                .tags(key.tags())
+                .register(meterRegistry);
+    }
+
+    private String repositoryNameOf(final Class<?> proxyClass) {
+        return Arrays.stream(ClassUtils.getAllInterfacesForClass(proxyClass))
+                .filter(Repository.class::isAssignableFrom)
+                .filter(type -> type.getName().startsWith(KITCHENPOS_PACKAGE))
+                .map(Class::getSimpleName)
+                .findFirst()
+                .orElseGet(proxyClass::getSimpleName);
+    }
+
+    private static final class MeterKey {
+        private final String metricName;
+        private final String className;
+        private final String methodName;
+        private final String exception;
+
+        MeterKey(final String metricName, final String className, final String methodName, final String exception) {
+            this.metricName = metricName;
+            this.className = className;
+            this.methodName = methodName;
+            this.exception = exception;
+        }
+
+        Tags tags() {
+            return Tags.of("class", className, "method", methodName, "exception", exception);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MeterKey)) {
+                return false;
+            }
+            MeterKey meterKey = (MeterKey) o;
+            return Objects.equals(metricName, meterKey.metricName)
+                    && Objects.equals(className, meterKey.className)
+                    && Objects.equals(methodName, meterKey.methodName)
+                    && Objects.equals(exception, meterKey.exception);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(metricName, className, methodName, exception);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package kitchenpos.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import kitchenpos.application.event.OrderCreatedEvent;
+import kitchenpos.application.event.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class OrderMetrics {
+    private final MeterRegistry meterRegistry;
+    private final Counter createdOrders;
+    private final DistributionSummary orderLineItems;
+    private final Map<OrderStatus, Map<OrderStatus, Counter>> statusTransitions = new ConcurrentHashMap<>();
+
+    public OrderMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.createdOrders = Counter.builder("kitchenpos.orders.created")
+                .description("Orders created")
+                .register(meterRegistry);
+        this.orderLineItems = DistributionSummary.builder("kitchenpos.order.line.items")
+                .description("Line items per created order")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleOrderCreatedEvent(final OrderCreatedEvent orderCreatedEvent) {
+        createdOrders.increment();
+        orderLineItems.record(orderCreatedEvent.getOrder().getOrderLineItems().getOrderLineItems().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleOrderStatusChangedEvent(final OrderStatusChangedEvent orderStatusChangedEvent) {
+        final var from = orderStatusChangedEvent.getPreviousOrderStatus();
+        final var to = orderStatusChangedEvent.getOrderStatus();
+
+        statusTransitions.computeIfAbsent(from, status -> new ConcurrentHashMap<>())
+                .computeIfAbsent(to, status -> statusTransitionCounterOf(from, to))
+                .increment();
+    }
+
+    private Counter statusTransitionCounterOf(final OrderStatus from, final OrderStatus to) {
+        return Counter.builder("kitchenpos.order.status.transitions")
+                .description("Order status transitions")
+                .tag("from", from.name())
+                .tag("to", to.name())
+                .register(meterRegistry);
+    }
+}
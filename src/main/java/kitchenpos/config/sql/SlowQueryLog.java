@@ -0,0 +1,31 @@
+package kitchenpos.config.sql;
+
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SlowQueryLog {
+    private static final Logger log = LoggerFactory.getLogger("kitchenpos.sql.slow");
+
+    private final long thresholdNanos;
+
+    public SlowQueryLog(final long thresholdMillis) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    public static SlowQueryLog disabled() {
+        return new SlowQueryLog(0);
+    }
+
+    public boolean isEnabled() {
+        return thresholdNanos > 0;
+    }
+
+    void record(final String sql, final long elapsedNanos) {
+        if (!isEnabled() || elapsedNanos < thresholdNanos) {
+            return;
+        }
+
+        log.warn("slow query {}ms : {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sql);
+    }
+}
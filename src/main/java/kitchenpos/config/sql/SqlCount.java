@@ -0,0 +1,28 @@
+package kitchenpos.config.sql;
+
+public class SqlCount {
+    private long statements;
+    private long roundTrips;
+    private long rows;
+
+    void increaseStatements(final long count) {
+        this.statements += count;
+        this.roundTrips++;
+    }
+
+    void increaseRows() {
+        this.rows++;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRoundTrips() {
+        return roundTrips;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+}
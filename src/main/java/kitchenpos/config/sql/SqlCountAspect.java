@@ -0,0 +1,32 @@
+package kitchenpos.config.sql;
+
+import io.micrometer.core.instrument.Tags;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Aspect
+public class SqlCountAspect {
+    private final SqlCountMetrics sqlCountMetrics;
+
+    public SqlCountAspect(final SqlCountMetrics sqlCountMetrics) {
+        this.sqlCountMetrics = sqlCountMetrics;
+    }
+
+    @Around("within(@org.springframework.stereotype.Service *) && execution(public * *(..))")
+    public Object count(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final var sqlCount = SqlCountHolder.start();
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            SqlCountHolder.stop(sqlCount);
+            final var signature = joinPoint.getSignature();
+            sqlCountMetrics.record(Tags.of("scope", "service",
+                    "method", signature.getDeclaringType().getSimpleName() + "." + signature.getName()), sqlCount);
+        }
+    }
+}
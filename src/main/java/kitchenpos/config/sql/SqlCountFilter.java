@@ -0,0 +1,103 @@
+package kitchenpos.config.sql;
+
+import io.micrometer.core.instrument.Tags;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Objects;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class SqlCountFilter extends OncePerRequestFilter {
+    private static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    private static final String ROUND_TRIPS_HEADER = "X-Sql-Round-Trips";
+    private static final String ROWS_HEADER = "X-Sql-Rows";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlCountMetrics sqlCountMetrics;
+    private final boolean responseHeaderEnabled;
+
+    public SqlCountFilter(final SqlCountMetrics sqlCountMetrics, final boolean responseHeaderEnabled) {
+        this.sqlCountMetrics = sqlCountMetrics;
+        this.responseHeaderEnabled = responseHeaderEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final var sqlCount = SqlCountHolder.start();
+        final var countingResponse = responseHeaderEnabled ? new SqlCountHeaderResponse(response, sqlCount) : response;
+
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            SqlCountHolder.stop(sqlCount);
+            if (countingResponse instanceof SqlCountHeaderResponse) {
+                ((SqlCountHeaderResponse) countingResponse).writeHeaders();
+            }
+            sqlCountMetrics.record(Tags.of("scope", "http", "method", request.getMethod(), "uri", uriOf(request)),
+                    sqlCount);
+        }
+    }
+
+    private String uriOf(final HttpServletRequest request) {
+        final var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return Objects.isNull(pattern) ? UNKNOWN_URI : pattern.toString();
+    }
+
+    private static class SqlCountHeaderResponse extends HttpServletResponseWrapper {
+        private final SqlCount sqlCount;
+        private boolean headersWritten;
+
+        SqlCountHeaderResponse(final HttpServletResponse response, final SqlCount sqlCount) {
+            super(response);
+            this.sqlCount = sqlCount;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(final int sc, final String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(final int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(STATEMENTS_HEADER, String.valueOf(sqlCount.getStatements()));
+            setHeader(ROUND_TRIPS_HEADER, String.valueOf(sqlCount.getRoundTrips()));
+            setHeader(ROWS_HEADER, String.valueOf(sqlCount.getRows()));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package kitchenpos.config.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public final class SqlCountHolder {
+    private static final ThreadLocal<Deque<SqlCount>> COUNTS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private SqlCountHolder() {
+    }
+
+    public static SqlCount start() {
+        final var sqlCount = new SqlCount();
+        COUNTS.get().push(sqlCount);
+
+        return sqlCount;
+    }
+
+    public static void stop(final SqlCount sqlCount) {
+        final var counts = COUNTS.get();
+        counts.remove(sqlCount);
+
+        if (counts.isEmpty()) {
+            COUNTS.remove();
+        }
+    }
+
+    static void onRoundTrip(final long statements) {
+        for (final SqlCount sqlCount : COUNTS.get()) {
+            sqlCount.increaseStatements(statements);
+        }
+    }
+
+    static void onRow() {
+        for (final SqlCount sqlCount : COUNTS.get()) {
+            sqlCount.increaseRows();
+        }
+    }
+}
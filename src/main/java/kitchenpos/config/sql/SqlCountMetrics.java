@@ -0,0 +1,26 @@
+package kitchenpos.config.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+public class SqlCountMetrics {
+    private final MeterRegistry meterRegistry;
+
+    public SqlCountMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(final Tags tags, final SqlCount sqlCount) {
+        summary("sql.statements", "SQL statements executed", tags).record(sqlCount.getStatements());
+        summary("sql.round.trips", "JDBC executions sent to the database", tags).record(sqlCount.getRoundTrips());
+        summary("sql.rows", "Rows read from result sets", tags).record(sqlCount.getRows());
+    }
+
+    private DistributionSummary summary(final String name, final String description, final Tags tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
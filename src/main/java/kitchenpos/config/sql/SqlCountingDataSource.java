@@ -0,0 +1,159 @@
+package kitchenpos.config.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.Set;
+import javax.sql.DataSource;
+
+public final class SqlCountingDataSource {
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate"
+    );
+    private static final Set<String> BATCH_EXECUTE_METHODS = Set.of("executeBatch", "executeLargeBatch");
+
+    private SqlCountingDataSource() {
+    }
+
+    public static DataSource wrap(final DataSource dataSource) {
+        return wrap(dataSource, SlowQueryLog.disabled());
+    }
+
+    public static DataSource wrap(final DataSource dataSource, final SlowQueryLog slowQueryLog) {
+        final Class<?>[] interfaces = dataSource instanceof AutoCloseable
+                ? new Class<?>[]{DataSource.class, AutoCloseable.class}
+                : new Class<?>[]{DataSource.class};
+
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), interfaces,
+                new CountingHandler(dataSource, slowQueryLog, null));
+    }
+
+    private static class CountingHandler implements InvocationHandler {
+        private final Object target;
+        private final SlowQueryLog slowQueryLog;
+        private final String sql;
+        private long batchedStatements;
+
+        CountingHandler(final Object target, final SlowQueryLog slowQueryLog, final String sql) {
+            this.target = target;
+            this.slowQueryLog = slowQueryLog;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final var name = method.getName();
+            if ("equals".equals(name) && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(name) && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+
+            if (target instanceof Statement) {
+                countStatement(name);
+            }
+            final var result = isExecution(name) ? invokeTimed(method, args) : invokeTarget(method, args);
+
+            return wrapResult(name, args, result);
+        }
+
+        private boolean isExecution(final String name) {
+            return target instanceof Statement
+                    && (EXECUTE_METHODS.contains(name) || BATCH_EXECUTE_METHODS.contains(name));
+        }
+
+        private Object invokeTimed(final Method method, final Object[] args) throws Throwable {
+            final var startNanos = System.nanoTime();
+
+            try {
+                return invokeTarget(method, args);
+            } finally {
+                slowQueryLog.record(sqlOf(args), System.nanoTime() - startNanos);
+            }
+        }
+
+        private String sqlOf(final Object[] args) {
+            if (Objects.nonNull(args) && args.length > 0 && args[0] instanceof String) {
+                return (String) args[0];
+            }
+
+            return sql;
+        }
+
+        private void countStatement(final String name) {
+            if ("addBatch".equals(name)) {
+                batchedStatements++;
+                return;
+            }
+            if (BATCH_EXECUTE_METHODS.contains(name)) {
+                SqlCountHolder.onRoundTrip(batchedStatements);
+                batchedStatements = 0;
+                return;
+            }
+            if ("clearBatch".equals(name)) {
+                batchedStatements = 0;
+                return;
+            }
+            if (EXECUTE_METHODS.contains(name)) {
+                SqlCountHolder.onRoundTrip(1);
+            }
+        }
+
+        private Object invokeTarget(final Method method, final Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Object wrapResult(final String name, final Object[] args, final Object result) {
+            if (target instanceof DataSource && "getConnection".equals(name)) {
+                return proxy(Connection.class, (Connection) result, null);
+            }
+            if (target instanceof Connection) {
+                return wrapStatement(name, sqlOf(args), result);
+            }
+            if (target instanceof Statement && ("executeQuery".equals(name) || "getResultSet".equals(name))) {
+                return proxy(ResultSet.class, (ResultSet) result, null);
+            }
+            if (target instanceof ResultSet && "next".equals(name) && Boolean.TRUE.equals(result)) {
+                SqlCountHolder.onRow();
+            }
+
+            return result;
+        }
+
+        private Object wrapStatement(final String name, final String statementSql, final Object result) {
+            if ("prepareCall".equals(name)) {
+                return proxy(CallableStatement.class, (CallableStatement) result, statementSql);
+            }
+            if ("prepareStatement".equals(name)) {
+                return proxy(PreparedStatement.class, (PreparedStatement) result, statementSql);
+            }
+            if ("createStatement".equals(name)) {
+                return proxy(Statement.class, (Statement) result, null);
+            }
+
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T proxy(final Class<T> type, final T proxyTarget, final String proxySql) {
+            if (Objects.isNull(proxyTarget)) {
+                return null;
+            }
+
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    new CountingHandler(proxyTarget, slowQueryLog, proxySql));
+        }
+    }
+}
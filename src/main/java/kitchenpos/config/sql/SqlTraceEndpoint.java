@@ -0,0 +1,104 @@
+package kitchenpos.config.sql;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.lang.Nullable;
+
+@Endpoint(id = "sqltrace")
+public class SqlTraceEndpoint implements DisposableBean {
+    private static final Map<String, LogLevel> TRACE_LEVELS = Map.of(
+            "org.hibernate.SQL", LogLevel.DEBUG,
+            "org.hibernate.type.descriptor.sql.BasicBinder", LogLevel.TRACE
+    );
+    private static final long DEFAULT_MINUTES = 5;
+    private static final long MAX_MINUTES = 60;
+
+    private final LoggingSystem loggingSystem;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "sql-trace-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, LogLevel> previousLevels = new HashMap<>();
+    private ScheduledFuture<?> expiry;
+    private LocalDateTime expiresAt;
+
+    public SqlTraceEndpoint(final LoggingSystem loggingSystem) {
+        this.loggingSystem = loggingSystem;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        final var status = new HashMap<String, Object>();
+        status.put("enabled", isEnabled());
+        status.put("expiresAt", expiresAt);
+
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> enable(@Nullable final Long minutes) {
+        final var window = validateMinutes(minutes);
+        if (!isEnabled()) {
+            TRACE_LEVELS.forEach((loggerName, level) -> {
+                previousLevels.put(loggerName, loggingSystem.getLoggerConfiguration(loggerName).getConfiguredLevel());
+                loggingSystem.setLogLevel(loggerName, level);
+            });
+        } else {
+            expiry.cancel(false);
+        }
+        expiry = scheduler.schedule(this::disable, window, TimeUnit.MINUTES);
+        expiresAt = LocalDateTime.now().plusMinutes(window);
+
+        return status();
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> disable() {
+        if (isEnabled()) {
+            expiry.cancel(false);
+            previousLevels.forEach(loggingSystem::setLogLevel);
+            previousLevels.clear();
+            expiry = null;
+            expiresAt = null;
+        }
+
+        return status();
+    }
+
+    private boolean isEnabled() {
+        return Objects.nonNull(expiry);
+    }
+
+    private long validateMinutes(final Long minutes) {
+        if (Objects.isNull(minutes)) {
+            return DEFAULT_MINUTES;
+        }
+
+        if (minutes <= 0 || minutes > MAX_MINUTES) {
+            throw new InvalidEndpointRequestException("유효하지 않은 SQL 추적 시간(분) : " + minutes,
+                    "SQL 추적 시간(분)은 1 이상 " + MAX_MINUTES + " 이하여야 합니다");
+        }
+
+        return minutes;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,14 @@
+CREATE INDEX ix_orders_order_table_id_order_status
+    ON orders (order_table_id, order_status);
+
+CREATE INDEX ix_orders_order_status_id
+    ON orders (order_status, id);
+
+CREATE INDEX ix_orders_ordered_time
+    ON orders (ordered_time);
+
+CREATE INDEX ix_order_line_item_order_id_seq
+    ON order_line_item (order_id, seq);
+
+CREATE INDEX ix_order_table_table_group_id_empty
+    ON order_table (table_group_id, empty);
@@ -0,0 +1,14 @@
+CREATE TABLE table_group_outbox (
+    id BIGINT(20) NOT NULL AUTO_INCREMENT,
+    table_group_id BIGINT(20) NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    order_table_ids VARCHAR(4000),
+    attempts INT(11) NOT NULL,
+    next_attempt_at DATETIME NOT NULL,
+    processed_at DATETIME,
+    created_at DATETIME NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX ix_table_group_outbox_processed_at_next_attempt_at
+    ON table_group_outbox (processed_at, next_attempt_at);
@@ -0,0 +1,5 @@
+ALTER TABLE orders
+    ADD COLUMN version BIGINT(20) NOT NULL DEFAULT 0;
+
+ALTER TABLE order_table
+    ADD COLUMN version BIGINT(20) NOT NULL DEFAULT 0;
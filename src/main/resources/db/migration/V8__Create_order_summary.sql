@@ -0,0 +1,27 @@
+CREATE TABLE order_summary (
+    order_id BIGINT(20) NOT NULL,
+    order_table_id BIGINT(20) NOT NULL,
+    order_status VARCHAR(255) NOT NULL,
+    item_count BIGINT(20) NOT NULL,
+    total_amount DECIMAL(19, 2) NOT NULL,
+    ordered_time DATETIME NOT NULL,
+    PRIMARY KEY (order_id)
+);
+
+CREATE INDEX ix_order_summary_order_table_id_order_status
+    ON order_summary (order_table_id, order_status);
+
+CREATE INDEX ix_order_summary_order_status
+    ON order_summary (order_status);
+
+INSERT INTO order_summary (order_id, order_table_id, order_status, item_count, total_amount, ordered_time)
+SELECT o.id,
+       o.order_table_id,
+       o.order_status,
+       COALESCE(SUM(oli.quantity), 0),
+       COALESCE(SUM(oli.quantity * COALESCE(oli.menu_price, m.price)), 0),
+       o.ordered_time
+FROM orders o
+         LEFT JOIN order_line_item oli ON oli.order_id = o.id
+         LEFT JOIN menu m ON m.id = oli.menu_id
+GROUP BY o.id, o.order_table_id, o.order_status, o.ordered_time;
@@ -4,7 +4,13 @@ package kitchenpos;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
+import kitchenpos.domain.support.MenuCatalog;
+import kitchenpos.domain.support.MenuPriceIndex;
+import kitchenpos.domain.support.OrderingMenuCache;
+import kitchenpos.domain.support.TableBoard;
+import org.hibernate.SessionFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -13,8 +19,19 @@ import org.springframework.stereotype.Component;
 public class DatabaseCleaner implements InitializingBean {
     @Autowired
     private DataSource dataSource;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private OrderingMenuCache orderingMenuCache;
+    @Autowired
+    private MenuCatalog menuCatalog;
+    @Autowired
+    private MenuPriceIndex menuPriceIndex;
+    @Autowired
+    private TableBoard tableBoard;
     private List<String> tableNames = new ArrayList<>();
     private final List<String> seqTables = List.of("order_line_item", "menu_product");
+    private final List<String> assignedIdTables = List.of("order_summary");
 
     @Override
     public void afterPropertiesSet() throws SQLException {
@@ -38,6 +55,9 @@ public class DatabaseCleaner implements InitializingBean {
 
             for (String tableName : tableNames) {
                 statement.executeUpdate("TRUNCATE TABLE " + tableName);
+                if (assignedIdTables.contains(tableName)) {
+                    continue;
+                }
                 statement.executeUpdate(
                         "ALTER TABLE " + tableName + " ALTER COLUMN " + getPkColumnName(tableName) + " RESTART WITH 1");
             }
@@ -46,6 +66,12 @@ public class DatabaseCleaner implements InitializingBean {
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
+
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        orderingMenuCache.invalidateAll();
+        menuCatalog.invalidate();
+        menuPriceIndex.rebuild();
+        tableBoard.rebuild();
     }
 
     private String getPkColumnName(final String tableName) {
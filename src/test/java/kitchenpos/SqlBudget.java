@@ -0,0 +1,28 @@
+package kitchenpos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+import kitchenpos.config.sql.SqlCountHolder;
+
+public final class SqlBudget {
+    private SqlBudget() {
+    }
+
+    public static <T> T assertMaxStatements(final long maxStatements, final Supplier<T> call) {
+        final var sqlCount = SqlCountHolder.start();
+        final T result;
+
+        try {
+            result = call.get();
+        } finally {
+            SqlCountHolder.stop(sqlCount);
+        }
+
+        assertThat(sqlCount.getStatements())
+                .as("SQL statement budget")
+                .isLessThanOrEqualTo(maxStatements);
+
+        return result;
+    }
+}
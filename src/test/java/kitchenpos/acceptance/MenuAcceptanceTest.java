@@ -6,6 +6,7 @@ import static kitchenpos.KitchenPosFixtures.메뉴_URL;
 import static kitchenpos.KitchenPosFixtures.메뉴그룹_URL;
 import static kitchenpos.KitchenPosFixtures.짜장치킨_생성요청;
 import static kitchenpos.KitchenPosFixtures.프로덕트_URL;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.math.BigDecimal;
@@ -53,11 +54,11 @@ public class MenuAcceptanceTest extends AcceptanceTest {
         // then
         assertAll(
                 응답일치(메뉴_생성응답, HttpStatus.CREATED),
-                단일_데이터_검증(생성된_메뉴.getId(), 1L),
+                () -> assertThat(생성된_메뉴.getId()).isNotNull(),
                 단일_데이터_검증(생성된_메뉴.getName(), 메뉴명),
                 단일_데이터_검증(생성된_메뉴.getPrice(), 메뉴가격),
                 단일_데이터_검증(생성된_메뉴.getMenuGroupId(), 두_마리_메뉴.getId()),
-                리스트_데이터_검증(메뉴_내_상품들, "menuId", 1L, 1L),
+                리스트_데이터_검증(메뉴_내_상품들, "menuId", 생성된_메뉴.getId(), 생성된_메뉴.getId()),
                 리스트_데이터_검증(메뉴_내_상품들, "productId", 생성된_까르보치킨.getId(), 생성된_짜장치킨.getId()),
                 리스트_데이터_검증(메뉴_내_상품들, "quantity", 1L, 1L)
         );
@@ -3,6 +3,7 @@ package kitchenpos.acceptance;
 import static kitchenpos.KitchenPosFixtures.네_마리_메뉴_생성요청;
 import static kitchenpos.KitchenPosFixtures.메뉴그룹_URL;
 import static kitchenpos.KitchenPosFixtures.세_마리_메뉴_생성요청;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
@@ -20,7 +21,7 @@ public class MenuGroupAcceptanceTest extends AcceptanceTest {
         // then
         assertAll(
                 응답일치(메뉴그룹_생성응답, HttpStatus.CREATED),
-                단일_데이터_검증(생성된_메뉴그룹.getId(), 1L),
+                () -> assertThat(생성된_메뉴그룹.getId()).isNotNull(),
                 단일_데이터_검증(생성된_메뉴그룹.getName(), 세_마리_메뉴_생성요청.getName())
         );
     }
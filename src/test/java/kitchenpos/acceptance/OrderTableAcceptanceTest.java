@@ -3,6 +3,7 @@ package kitchenpos.acceptance;
 import static kitchenpos.KitchenPosFixtures.삼인용_테이블;
 import static kitchenpos.KitchenPosFixtures.오인용_테이블;
 import static kitchenpos.KitchenPosFixtures.테이블_URL;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
@@ -23,7 +24,7 @@ public class OrderTableAcceptanceTest extends AcceptanceTest {
         // then
         assertAll(
                 응답일치(테이블_생성응답, HttpStatus.CREATED),
-                단일_데이터_검증(생성된_테이블.getId(), 1L),
+                () -> assertThat(생성된_테이블.getId()).isNotNull(),
                 단일_데이터_검증(생성된_테이블.getTableGroupId(), null),
                 단일_데이터_검증(생성된_테이블.getNumberOfGuests(), 삼인용_테이블.getNumberOfGuests()),
                 단일_데이터_검증(생성된_테이블.isEmpty(), 삼인용_테이블.isEmpty())
@@ -9,12 +9,17 @@ import static kitchenpos.KitchenPosFixtures.주문_URL;
 import static kitchenpos.KitchenPosFixtures.짜장치킨_생성요청;
 import static kitchenpos.KitchenPosFixtures.테이블_URL;
 import static kitchenpos.KitchenPosFixtures.프로덕트_URL;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.ui.dto.request.OrderTableCreateRequest;
@@ -25,7 +30,10 @@ import kitchenpos.ui.dto.response.ProductResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 
+@TestPropertySource(properties = "management.endpoints.web.exposure.include=health, info, prometheus")
 public class OrdersAcceptanceTest extends AcceptanceTest {
     private OrderTable 생성된_테이블;
     private ProductResponse 생성된_까르보치킨;
@@ -71,17 +79,52 @@ public class OrdersAcceptanceTest extends AcceptanceTest {
         // then
         assertAll(
                 응답일치(주문_생성응답, HttpStatus.CREATED),
-                단일_데이터_검증(생성된_주문.getId(), 1L),
+                () -> assertThat(생성된_주문.getId()).isNotNull(),
                 단일_데이터_검증(생성된_주문.getOrderTableId(), 생성된_테이블.getId()),
                 단일_데이터_검증(생성된_주문.getOrderStatus(), OrderStatus.COOKING.name()),
                 단일_데이터_검증(주문메뉴.getMenuId(), 생성된_메뉴.getId()),
-                단일_데이터_검증(주문메뉴.getOrderId(), 1L),
+                단일_데이터_검증(주문메뉴.getOrderId(), 생성된_주문.getId()),
                 단일_데이터_검증(주문메뉴.getQuantity(), 1L)
         );
     }
 
     @Test
-    void 전체_주문을_조회할_수_있다() throws JsonProcessingException {
+    void 같은_멱등키로_다시_요청하면_처음_생성한_주문을_돌려준다() {
+        // given
+        final var 멱등키 = UUID.randomUUID().toString();
+        final var 주문_데이터 = Map.of("orderTableId", 생성된_테이블.getId(),
+                "orderLineItems", List.of(
+                        Map.of("menuId", 생성된_메뉴.getId(), "quantity", 1)
+                )
+        );
+
+        // when
+        final var 첫_주문 = 멱등키_주문요청(멱등키, 주문_데이터).body().as(OrderResponse.class);
+        final var 재시도_응답 = 멱등키_주문요청(멱등키, 주문_데이터);
+        final var 재시도_주문 = 재시도_응답.body().as(OrderResponse.class);
+        final var 전체_주문 = 조회요청(주문_URL).body().as(List.class);
+
+        // then
+        assertAll(
+                응답일치(재시도_응답, HttpStatus.CREATED),
+                단일_데이터_검증(재시도_주문.getId(), 첫_주문.getId()),
+                단일_데이터_검증(전체_주문.size(), 1)
+        );
+    }
+
+    private <T> ExtractableResponse<Response> 멱등키_주문요청(final String 멱등키, final T 주문_데이터) {
+        return RestAssured.given().log().all()
+                .header("Idempotency-Key", 멱등키)
+                .body(주문_데이터)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post(주문_URL)
+                .then().log().all()
+                .extract();
+    }
+
+    @Test
+    void 주문_생성_지표를_프로메테우스_형식으로_조회할_수_있다() {
         // given
         final var 주문_데이터 = Map.of("orderTableId", 생성된_테이블.getId(),
                 "orderLineItems", List.of(
@@ -90,6 +133,35 @@ public class OrdersAcceptanceTest extends AcceptanceTest {
         );
         생성요청(주문_URL, 주문_데이터);
 
+        // when
+        final var 지표_조회응답 = RestAssured.given().log().all()
+                .accept(MediaType.TEXT_PLAIN_VALUE)
+                .when()
+                .get("/actuator/prometheus")
+                .then()
+                .extract();
+        final var 지표 = 지표_조회응답.body().asString();
+
+        // then
+        assertAll(
+                응답일치(지표_조회응답, HttpStatus.OK),
+                () -> assertThat(지표).contains("kitchenpos_orders_created_total"),
+                () -> assertThat(지표).contains("kitchenpos_order_line_items_count"),
+                () -> assertThat(지표).containsPattern("kitchenpos_service_seconds_count\\{[^}]*method=\"create\""),
+                () -> assertThat(지표).containsPattern("kitchenpos_repository_seconds_count\\{[^}]*class=\"OrderRepository\"")
+        );
+    }
+
+    @Test
+    void 전체_주문을_조회할_수_있다() throws JsonProcessingException {
+        // given
+        final var 주문_데이터 = Map.of("orderTableId", 생성된_테이블.getId(),
+                "orderLineItems", List.of(
+                        Map.of("menuId", 생성된_메뉴.getId(), "quantity", 1)
+                )
+        );
+        final var 생성된_주문 = 생성요청(주문_URL, 주문_데이터).body().as(OrderResponse.class);
+
         // when
         final var 주문_조회응답 = 조회요청(주문_URL);
         final var 첫주문내역 = 주문_조회응답.body().as(List.class).iterator().next();
@@ -98,7 +170,7 @@ public class OrdersAcceptanceTest extends AcceptanceTest {
         // then
         assertAll(
                 응답일치(주문_조회응답, HttpStatus.OK),
-                단일_데이터_검증(주문정보.getId(), 1L),
+                단일_데이터_검증(주문정보.getId(), 생성된_주문.getId()),
                 단일_데이터_검증(주문정보.getOrderStatus(), OrderStatus.COOKING.name()),
                 단일_데이터_검증(주문정보.getOrderTableId(), 생성된_테이블.getId()),
                 리스트_데이터_검증(주문정보.getOrderLineItems(), "menuId", 생성된_메뉴.getId()),
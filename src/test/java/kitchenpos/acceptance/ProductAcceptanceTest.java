@@ -3,6 +3,7 @@ package kitchenpos.acceptance;
 import static kitchenpos.KitchenPosFixtures.까르보치킨_생성요청;
 import static kitchenpos.KitchenPosFixtures.짜장치킨_생성요청;
 import static kitchenpos.KitchenPosFixtures.프로덕트_URL;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
@@ -20,7 +21,7 @@ public class ProductAcceptanceTest extends AcceptanceTest {
         // then
         assertAll(
                 응답일치(프로덕트_생성응답, HttpStatus.CREATED),
-                단일_데이터_검증(생성된_프로덕트.getId(), 1L),
+                () -> assertThat(생성된_프로덕트.getId()).isNotNull(),
                 단일_데이터_검증(생성된_프로덕트.getName(), 까르보치킨_생성요청.getName()),
                 단일_데이터_검증(생성된_프로덕트.getPrice(), 까르보치킨_생성요청.getPrice().doubleValue())
         );
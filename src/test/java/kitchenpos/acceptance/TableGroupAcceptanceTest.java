@@ -2,6 +2,7 @@ package kitchenpos.acceptance;
 
 import static kitchenpos.KitchenPosFixtures.테이블_URL;
 import static kitchenpos.KitchenPosFixtures.테이블그룹_URL;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
@@ -36,7 +37,7 @@ public class TableGroupAcceptanceTest extends AcceptanceTest {
         // then
         assertAll(
                 응답일치(테이블그룹_생성응답, HttpStatus.CREATED),
-                단일_데이터_검증(생성된_테이블그룹.getId(), 1L),
+                () -> assertThat(생성된_테이블그룹.getId()).isNotNull(),
                 리스트_데이터_검증(그룹소속_테이블들, "id", 테이블A.getId(), 테이블B.getId()),
                 리스트_데이터_검증(그룹소속_테이블들, "tableGroupId", 생성된_테이블그룹.getId(), 생성된_테이블그룹.getId()),
                 리스트_데이터_검증(그룹소속_테이블들, "numberOfGuests", 테이블A.getNumberOfGuests(), 테이블B.getNumberOfGuests()),
@@ -66,7 +67,7 @@ public class TableGroupAcceptanceTest extends AcceptanceTest {
                 응답일치(테이블그룹_생성응답, HttpStatus.CREATED),
                 응답일치(테이블그룹_삭제응답, HttpStatus.NO_CONTENT),
                 응답일치(테이블_조회응답, HttpStatus.OK),
-                단일_데이터_검증(그룹아이디, 1L),
+                () -> assertThat(그룹아이디).isNotNull(),
                 리스트_데이터_검증(그룹_내_테이블, "tableGroupId", 그룹아이디, 그룹아이디),
                 리스트_데이터_검증(테이블_조회_데이터, "tableGroupId", null, null)
         );
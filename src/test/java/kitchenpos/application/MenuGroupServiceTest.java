@@ -29,7 +29,7 @@ class MenuGroupServiceTest extends ServiceTest {
 
         // then
         assertAll(
-                () -> assertThat(actual.getId()).isEqualTo(1L),
+                () -> assertThat(actual.getId()).isNotNull(),
                 () -> assertThat(actual.getName()).isEqualTo(expectedName)
         );
     }
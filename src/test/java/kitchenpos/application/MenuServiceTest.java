@@ -8,9 +8,13 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import kitchenpos.SqlBudget;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.Product;
+import kitchenpos.domain.support.MenuPriceAggregate;
+import kitchenpos.domain.support.MenuPriceIndex;
 import kitchenpos.domain.vo.MenuPrice;
 import kitchenpos.domain.vo.ProductPrice;
 import kitchenpos.exception.notfound.MenuGroupNotFoundException;
@@ -18,19 +22,27 @@ import kitchenpos.repository.MenuGroupRepository;
 import kitchenpos.repository.ProductRepository;
 import kitchenpos.ui.dto.request.MenuCreateRequest;
 import kitchenpos.ui.dto.request.MenuProductRequest;
+import kitchenpos.ui.dto.request.ProductPriceChangeRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 class MenuServiceTest extends ServiceTest {
     @Autowired
     private MenuService menuService;
     @Autowired
+    private ProductService productService;
+    @Autowired
+    private MenuPriceIndex menuPriceIndex;
+    @Autowired
     private MenuGroupRepository menuGroupRepository;
     @Autowired
     private ProductRepository productRepository;
+    @Autowired
+    private DataSource dataSource;
     private MenuGroup menuGroup;
     private Product productA;
     private Product productB;
@@ -66,7 +78,7 @@ class MenuServiceTest extends ServiceTest {
                 () -> assertThat(menu)
                         .usingRecursiveComparison()
                         .isEqualTo(
-                                new Menu(1L, name, MenuPrice.from(price), menuGroup.getId(),
+                                new Menu(menu.getId(), name, MenuPrice.from(price), menuGroup.getId(),
                                         menu.getMenuProducts().getMenuProducts())),
                 () -> assertThat(menu.getMenuProducts().getMenuProducts())
                         .extracting("menu")
@@ -156,8 +168,8 @@ class MenuServiceTest extends ServiceTest {
         final var secondPrice = new BigDecimal("25000.00");
         final var menuRequest2 = new MenuCreateRequest(secondName, secondPrice, menuGroupId,
                 List.of(menuProductA, menuProductB));
-        menuService.create(menuRequest);
-        menuService.create(menuRequest2);
+        final var menu1 = menuService.create(menuRequest);
+        final var menu2 = menuService.create(menuRequest2);
 
         // when
         final var actual = menuService.list();
@@ -167,12 +179,79 @@ class MenuServiceTest extends ServiceTest {
 
         // then
         assertAll(
-                () -> assertThat(actual).extracting("id").containsExactly(1L, 2L),
+                () -> assertThat(actual).extracting("id").containsExactly(menu1.getId(), menu2.getId()),
                 () -> assertThat(actual).extracting("name").containsExactly(name, secondName),
                 () -> assertThat(actual).extracting("price").extracting("price").containsExactly(price, secondPrice),
                 () -> assertThat(actual).extracting("menuGroupId").containsExactly(menuGroupId, menuGroupId),
-                () -> assertThat(menuProducts).extracting("product").extracting("id").containsExactly(1L, 2L, 1L, 2L),
+                () -> assertThat(menuProducts).extracting("product").extracting("id")
+                        .containsExactly(productA.getId(), productB.getId(), productA.getId(), productB.getId()),
                 () -> assertThat(menuProducts).extracting("quantity").containsExactly(1L, 1L, 1L, 1L)
         );
     }
+
+    @DisplayName("전체 메뉴 목록 조회는 메뉴 상품까지 한 번의 SQL로 가져온다")
+    @Test
+    void list_within_sql_budget() {
+        // given
+        menuService.create(new MenuCreateRequest(name, price, menuGroupId, List.of(menuProductA, menuProductB)));
+        menuService.create(new MenuCreateRequest(name + "2", price, menuGroupId, List.of(menuProductA)));
+
+        // when
+        final var actual = SqlBudget.assertMaxStatements(1, () -> menuService.list());
+
+        // then
+        assertThat(actual).hasSize(2);
+    }
+
+    @DisplayName("프로덕트 가격이 바뀌면 구성 상품 합계액보다 비싸진 메뉴를 조회할 수 있다")
+    @Test
+    void find_overpriced_menus_after_product_price_change() {
+        // given
+        final var menuA = menuService.create(
+                new MenuCreateRequest(name, price, menuGroupId, List.of(menuProductA, menuProductB)));
+        final var menuB = menuService.create(
+                new MenuCreateRequest(name + "2", new BigDecimal("19000.00"), menuGroupId, List.of(menuProductA)));
+
+        // when
+        productService.changePrice(productA.getId(), new ProductPriceChangeRequest(new BigDecimal("15000.00")));
+        final var afterPriceDrop = menuPriceIndex.findOverpricedMenus();
+        productService.changePrice(productB.getId(), new ProductPriceChangeRequest(new BigDecimal("30000.00")));
+        final var afterPriceRise = menuPriceIndex.findOverpricedMenus();
+
+        // then
+        assertAll(
+                () -> assertThat(menuPriceIndex.findMenuIdsByProductId(productA.getId()))
+                        .containsExactlyInAnyOrder(menuA.getId(), menuB.getId()),
+                () -> assertThat(afterPriceDrop).extracting("menuId").containsExactly(menuA.getId(), menuB.getId()),
+                () -> assertThat(afterPriceDrop).extracting("totalPriceOfMenuProducts")
+                        .containsExactly(new BigDecimal("34000.00"), new BigDecimal("15000.00")),
+                () -> assertThat(afterPriceRise).extracting("menuId").containsExactly(menuB.getId()),
+                () -> assertThat(menuPriceIndex.findByMenuId(menuA.getId()))
+                        .extracting(MenuPriceAggregate::getTotalPriceOfMenuProducts)
+                        .isEqualTo(new BigDecimal("45000.00"))
+        );
+    }
+
+    @DisplayName("데이터베이스와 어긋난 메뉴 가격 인덱스는 대조 작업으로 바로잡힌다")
+    @Test
+    void menu_price_index_is_reconciled_with_database() {
+        // given
+        final var menu = menuService.create(
+                new MenuCreateRequest(name, price, menuGroupId, List.of(menuProductA, menuProductB)));
+        new JdbcTemplate(dataSource).update("UPDATE product SET price = 10000.00 WHERE id = ?", productA.getId());
+        final var staleAggregate = menuPriceIndex.findByMenuId(menu.getId());
+
+        // when
+        menuPriceIndex.reconcile();
+        final var reconciledAggregate = menuPriceIndex.findByMenuId(menu.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(staleAggregate.getTotalPriceOfMenuProducts()).isEqualTo(new BigDecimal("39000.00")),
+                () -> assertThat(reconciledAggregate.getTotalPriceOfMenuProducts())
+                        .isEqualTo(new BigDecimal("29000.00")),
+                () -> assertThat(menuPriceIndex.findOverpricedMenus()).extracting("menuId")
+                        .containsExactly(menu.getId())
+        );
+    }
 }
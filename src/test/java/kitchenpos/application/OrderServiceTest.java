@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
+import kitchenpos.SqlBudget;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.Order;
@@ -18,10 +19,16 @@ import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.Product;
+import kitchenpos.domain.support.OrderEventFeed;
+import kitchenpos.domain.support.OrderFeedEvent;
+import kitchenpos.domain.support.OrderingMenuCache;
+import kitchenpos.domain.validator.OrderExistenceChecker;
 import kitchenpos.exception.badrequest.OrderAlreadyCompletedException;
+import kitchenpos.exception.badrequest.OrderBatchSizeInvalidException;
 import kitchenpos.exception.badrequest.OrderFailureOnEmptyOrderTableException;
 import kitchenpos.exception.badrequest.OrderIdInvalidException;
 import kitchenpos.exception.badrequest.OrderTableIdInvalidException;
+import kitchenpos.exception.badrequest.PageSizeInvalidException;
 import kitchenpos.exception.notfound.OrderNotFoundException;
 import kitchenpos.exception.notfound.OrderTableNotFoundException;
 import kitchenpos.repository.MenuRepository;
@@ -32,9 +39,11 @@ import kitchenpos.ui.dto.request.MenuProductRequest;
 import kitchenpos.ui.dto.request.OrderChangeStatusRequest;
 import kitchenpos.ui.dto.request.OrderCreateRequest;
 import kitchenpos.ui.dto.request.OrderLineItemRequest;
+import kitchenpos.ui.dto.request.OrderSearchRequest;
 import kitchenpos.ui.dto.request.OrderTableChangeEmptyRequest;
 import kitchenpos.ui.dto.request.OrderTableCreateRequest;
 import kitchenpos.ui.dto.request.ProductCreateRequest;
+import kitchenpos.ui.dto.response.OrderResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -59,6 +68,14 @@ class OrderServiceTest extends ServiceTest {
     private DataSource dataSource;
     @Autowired
     private MenuRepository menuRepository;
+    @Autowired
+    private OrderExistenceChecker orderExistenceChecker;
+    @Autowired
+    private OrderingMenuCache orderingMenuCache;
+    @Autowired
+    private OrderEventFeed orderEventFeed;
+    @Autowired
+    private OrderSummaryService orderSummaryService;
     private MenuGroup menuGroup;
     private Product productA;
     private Product productB;
@@ -104,7 +121,7 @@ class OrderServiceTest extends ServiceTest {
 
         // then
         assertAll(
-                () -> assertThat(orderId).isEqualTo(1L),
+                () -> assertThat(orderId).isNotNull(),
                 () -> assertThat(actual.getOrderTableId()).isEqualTo(tableA.getId()),
                 () -> assertThat(actual.getOrderStatus()).isEqualTo(OrderStatus.COOKING),
                 () -> assertThat(actual.getOrderedTime()).isAfter(beforeOrder),
@@ -123,6 +140,22 @@ class OrderServiceTest extends ServiceTest {
         );
     }
 
+    @DisplayName("주문 생성은 정해진 SQL 실행 횟수 안에서 끝난다")
+    @Test
+    void create_within_sql_budget() {
+        // given
+        final var orderRequest = new OrderCreateRequest(
+                tableA.getId(),
+                List.of(new OrderLineItemRequest(menu.getId(), 1L))
+        );
+
+        // when
+        final var actual = SqlBudget.assertMaxStatements(7, () -> orderService.create(orderRequest));
+
+        // then
+        assertThat(actual.getId()).isNotNull();
+    }
+
     @DisplayName("create 메서드는")
     @Nested
     class Create {
@@ -207,6 +240,61 @@ class OrderServiceTest extends ServiceTest {
         }
     }
 
+    @DisplayName("여러 주문을 한 번에 생성하고, 실패한 주문은 나머지 주문에 영향을 주지 않는다")
+    @Test
+    void createAll() {
+        // given
+        final var tableB = tableService.create(new OrderTableCreateRequest(0, true));
+        final var requests = List.of(
+                new OrderCreateRequest(tableA.getId(), List.of(new OrderLineItemRequest(menu.getId(), 1L))),
+                new OrderCreateRequest(tableB.getId(), List.of(new OrderLineItemRequest(menu.getId(), 1L))),
+                new OrderCreateRequest(tableA.getId(), List.of(new OrderLineItemRequest(Long.MAX_VALUE, 1L))),
+                new OrderCreateRequest(tableA.getId(), List.of(new OrderLineItemRequest(menu.getId(), 2L)))
+        );
+
+        // when
+        final var actual = orderService.createAll(requests);
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting("success").containsExactly(true, false, false, true),
+                () -> assertThat(actual.get(0).getOrder().getId()).isNotNull(),
+                () -> assertThat(actual.get(1).getFailureMessage()).contains(String.valueOf(tableB.getId())),
+                () -> assertThat(orderService.list()).hasSize(2),
+                () -> assertThat(orderExistenceChecker.hasCookingOrMealOrderByOrderTableId(tableA.getId())).isTrue()
+        );
+    }
+
+    @DisplayName("일괄 주문 요청이 비어 있으면 예외가 발생한다")
+    @Test
+    void createAll_should_fail_when_requests_are_empty() {
+        // when & then
+        assertThatThrownBy(() -> orderService.createAll(List.of()))
+                .isInstanceOf(OrderBatchSizeInvalidException.class);
+    }
+
+    @DisplayName("주문할 메뉴 정보는 캐시에서 읽고, 메뉴가 생성되면 캐시를 비운다")
+    @Test
+    void ordering_menu_cache() {
+        // given
+        final var missCountBefore = orderingMenuCache.getMissCount();
+        final var hitCountBefore = orderingMenuCache.getHitCount();
+
+        // when
+        createOrder();
+        createOrder();
+        final var sizeAfterOrders = orderingMenuCache.size();
+        menuService.create(new MenuCreateRequest(name, price, menuGroupId, List.of(menuProductA)));
+
+        // then
+        assertAll(
+                () -> assertThat(orderingMenuCache.getMissCount() - missCountBefore).isEqualTo(1L),
+                () -> assertThat(orderingMenuCache.getHitCount() - hitCountBefore).isEqualTo(1L),
+                () -> assertThat(sizeAfterOrders).isEqualTo(1L),
+                () -> assertThat(orderingMenuCache.size()).isZero()
+        );
+    }
+
     @DisplayName("전체 주문을 조회할 수 있다")
     @Test
     void list() {
@@ -218,7 +306,7 @@ class OrderServiceTest extends ServiceTest {
 
         // when
         final var beforeOrder = LocalDateTime.now();
-        orderService.create(orderRequest);
+        final var createdOrder = orderService.create(orderRequest);
         final var afterOrder = LocalDateTime.now();
 
         // when
@@ -228,7 +316,7 @@ class OrderServiceTest extends ServiceTest {
         // then
         assertAll(
                 () -> assertThat(actual.size()).isEqualTo(1),
-                () -> assertThat(order.getId()).isEqualTo(1L),
+                () -> assertThat(order.getId()).isEqualTo(createdOrder.getId()),
                 () -> assertThat(order.getOrderTableId()).isEqualTo(tableA.getId()),
                 () -> assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.COOKING),
                 () -> assertThat(order.getOrderedTime()).isAfter(beforeOrder),
@@ -242,6 +330,94 @@ class OrderServiceTest extends ServiceTest {
         );
     }
 
+    @DisplayName("list 메서드는")
+    @Nested
+    class ListWithCursor {
+        @DisplayName("커서 이후의 주문을 페이지 크기만큼 조회하고, 다음 페이지 존재 여부를 알려준다")
+        @Test
+        void list_orders_after_cursor() {
+            // given
+            final var first = createOrder();
+            final var second = createOrder();
+            final var third = createOrder();
+
+            // when
+            final var firstPage = orderService.list(new OrderSearchRequest(null, 2, null, null, null, null));
+            final var lastCursor = firstPage.getContent().get(1).getId();
+            final var secondPage = orderService.list(new OrderSearchRequest(lastCursor, 2, null, null, null, null));
+
+            // then
+            assertAll(
+                    () -> assertThat(firstPage.getContent()).extracting("id")
+                            .containsExactly(first.getId(), second.getId()),
+                    () -> assertThat(firstPage.hasNext()).isTrue(),
+                    () -> assertThat(secondPage.getContent()).extracting("id")
+                            .containsExactly(third.getId()),
+                    () -> assertThat(secondPage.hasNext()).isFalse(),
+                    () -> assertThat(secondPage.getContent().get(0).getOrderLineItems().getOrderLineItems())
+                            .extracting("menuId")
+                            .containsExactly(menu.getId())
+            );
+        }
+
+        @DisplayName("주문 상태와 주문 테이블로 필터링할 수 있다")
+        @Test
+        void list_orders_filtered_by_status_and_table() {
+            // given
+            final var cooking = createOrder();
+            final var meal = createOrder();
+            orderService.changeOrderStatus(meal.getId(), new OrderChangeStatusRequest(OrderStatus.MEAL.name()));
+
+            // when
+            final var mealOrders = orderService.list(
+                    new OrderSearchRequest(null, null, "meal", tableA.getId(), null, null));
+            final var otherTableOrders = orderService.list(
+                    new OrderSearchRequest(null, null, null, -1L, null, null));
+
+            // then
+            assertAll(
+                    () -> assertThat(mealOrders.getContent()).extracting("id").containsExactly(meal.getId()),
+                    () -> assertThat(mealOrders.getContent()).extracting("id").doesNotContain(cooking.getId()),
+                    () -> assertThat(otherTableOrders.getContent()).isEmpty()
+            );
+        }
+
+        @DisplayName("페이지 크기가 0 이하이면 예외가 발생한다")
+        @Test
+        void should_fail_when_size_is_not_positive() {
+            // given
+            final var request = new OrderSearchRequest(null, 0, null, null, null, null);
+
+            // when & then
+            assertThatThrownBy(() -> orderService.list(request))
+                    .isInstanceOf(PageSizeInvalidException.class);
+        }
+    }
+
+    @DisplayName("전체 주문을 주문 아이디 순서로 하나씩 내보낼 수 있다")
+    @Test
+    void exportAll() {
+        // given
+        final var first = orderService.create(new OrderCreateRequest(
+                tableA.getId(),
+                List.of(new OrderLineItemRequest(menu.getId(), 1L), new OrderLineItemRequest(menu.getId(), 2L))
+        ));
+        final var second = createOrder();
+
+        // when
+        final var exported = new ArrayList<OrderResponse>();
+        orderService.exportAll(exported::add);
+
+        // then
+        assertAll(
+                () -> assertThat(exported).extracting("id").containsExactly(first.getId(), second.getId()),
+                () -> assertThat(exported.get(0).getOrderLineItems()).extracting("quantity")
+                        .containsExactly(1L, 2L),
+                () -> assertThat(exported.get(1).getOrderLineItems()).extracting("orderId")
+                        .containsExactly(second.getId())
+        );
+    }
+
     @DisplayName("주문 상태를 변경할 수 있다")
     @Test
     void changeOrderStatus() {
@@ -267,6 +443,107 @@ class OrderServiceTest extends ServiceTest {
         );
     }
 
+    @DisplayName("주문 생성과 계산 완료가 커밋되면 테이블의 진행 중 주문 여부에 바로 반영된다")
+    @Test
+    void active_order_check_follows_order_status() {
+        // given
+        final var order = createOrder();
+        final var activeAfterCreate = orderExistenceChecker.hasCookingOrMealOrderByOrderTableId(tableA.getId());
+
+        // when
+        orderService.changeOrderStatus(order.getId(), new OrderChangeStatusRequest(OrderStatus.MEAL.name()));
+        final var activeAfterMeal = orderExistenceChecker.hasCookingOrMealOrderByOrderTableId(tableA.getId());
+        orderService.changeOrderStatus(order.getId(), new OrderChangeStatusRequest(OrderStatus.COMPLETION.name()));
+        final var activeAfterCompletion = orderExistenceChecker.hasCookingOrMealOrderByOrderTableId(tableA.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(activeAfterCreate).isTrue(),
+                () -> assertThat(activeAfterMeal).isTrue(),
+                () -> assertThat(activeAfterCompletion).isFalse()
+        );
+    }
+
+    @DisplayName("여러 테이블의 진행 중 주문 여부를 한 번에 확인할 수 있다")
+    @Test
+    void active_order_check_for_multiple_tables() {
+        // given
+        final var tableB = tableService.create(new OrderTableCreateRequest(0, false));
+        createOrder();
+
+        // when
+        final var withActiveOrder = orderExistenceChecker.hasCookingOrMealOrderByOrderTableIdIn(
+                List.of(tableA.getId(), tableB.getId()));
+        final var withoutActiveOrder = orderExistenceChecker.hasCookingOrMealOrderByOrderTableIdIn(
+                List.of(tableB.getId()));
+        final var withoutTables = orderExistenceChecker.hasCookingOrMealOrderByOrderTableIdIn(List.of());
+
+        // then
+        assertAll(
+                () -> assertThat(withActiveOrder).isTrue(),
+                () -> assertThat(withoutActiveOrder).isFalse(),
+                () -> assertThat(withoutTables).isFalse()
+        );
+    }
+
+    @DisplayName("주문 생성과 상태 변경이 커밋되면 주문 이벤트 피드에 순서대로 쌓인다")
+    @Test
+    void order_event_feed_follows_commits() {
+        // given
+        final var lastEventId = orderEventFeed.getLastEventId();
+
+        // when
+        final var order = createOrder();
+        orderService.changeOrderStatus(order.getId(), new OrderChangeStatusRequest(OrderStatus.MEAL.name()));
+        final var events = orderEventFeed.eventsAfter(lastEventId);
+
+        // then
+        assertAll(
+                () -> assertThat(events).extracting(OrderFeedEvent::getName)
+                        .containsExactly(OrderFeedEvent.ORDER_CREATED, OrderFeedEvent.ORDER_STATUS_CHANGED),
+                () -> assertThat(events).extracting(OrderFeedEvent::getId)
+                        .containsExactly(lastEventId + 1, lastEventId + 2),
+                () -> assertThat(events).extracting(event -> event.getData().getOrderId())
+                        .containsOnly(order.getId()),
+                () -> assertThat(events.get(1).getData().getOrderStatus()).isEqualTo(OrderStatus.MEAL.name())
+        );
+    }
+
+    @DisplayName("주문 생성과 상태 변경이 커밋되면 주문 요약과 통계에 함께 반영된다")
+    @Test
+    void order_summary_follows_commits() {
+        // given
+        final var first = orderService.create(new OrderCreateRequest(
+                tableA.getId(),
+                List.of(new OrderLineItemRequest(menu.getId(), 2L))
+        ));
+        final var second = orderService.create(new OrderCreateRequest(
+                tableA.getId(),
+                List.of(new OrderLineItemRequest(menu.getId(), 1L))
+        ));
+
+        // when
+        orderService.changeOrderStatus(second.getId(), new OrderChangeStatusRequest(OrderStatus.MEAL.name()));
+        final var summaries = orderSummaryService.list(tableA.getId(), null);
+        final var statistics = orderSummaryService.statistics();
+
+        // then
+        assertAll(
+                () -> assertThat(summaries).extracting("orderId")
+                        .containsExactly(first.getId(), second.getId()),
+                () -> assertThat(summaries).extracting("orderStatus")
+                        .containsExactly(OrderStatus.COOKING, OrderStatus.MEAL),
+                () -> assertThat(summaries).extracting("itemCount")
+                        .containsExactly(2L, 1L),
+                () -> assertThat(summaries.get(0).getTotalAmount()).isEqualByComparingTo("70000"),
+                () -> assertThat(summaries.get(1).getTotalAmount()).isEqualByComparingTo("35000"),
+                () -> assertThat(statistics).extracting("orderStatus")
+                        .containsExactly(OrderStatus.COOKING, OrderStatus.MEAL),
+                () -> assertThat(statistics).extracting("orderCount")
+                        .containsExactly(1L, 1L)
+        );
+    }
+
     @DisplayName("changeOrderStatus 메서드는")
     @Nested
     class ChangeOrderStatus {
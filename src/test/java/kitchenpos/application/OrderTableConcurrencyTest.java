@@ -0,0 +1,125 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import kitchenpos.exception.KitchenPosException;
+import kitchenpos.exception.OrderTableLockTimeoutException;
+import kitchenpos.ui.dto.request.OrderTableChangeEmptyRequest;
+import kitchenpos.ui.dto.request.OrderTableCreateRequest;
+import kitchenpos.ui.dto.request.TableGroupCreateRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class OrderTableConcurrencyTest extends ServiceTest {
+    private static final int TABLE_COUNT = 6;
+    private static final int THREAD_COUNT = 8;
+    private static final int OPERATIONS_PER_THREAD = 40;
+
+    @Autowired
+    private TableService tableService;
+    @Autowired
+    private TableGroupService tableGroupService;
+    @Autowired
+    private DataSource dataSource;
+    private List<Long> orderTableIds;
+
+    @BeforeEach
+    void setUpTables() {
+        orderTableIds = new ArrayList<>();
+        for (int i = 0; i < TABLE_COUNT; i++) {
+            orderTableIds.add(tableService.create(new OrderTableCreateRequest(0, true)).getId());
+        }
+    }
+
+    @DisplayName("겹치는 그룹 지정, 그룹 해제, 주문 가능 여부 변경을 동시에 요청해도 테이블 상태가 어긋나지 않는다")
+    @Test
+    void overlapping_table_operations_keep_invariants() throws InterruptedException {
+        // given
+        final var tableGroupIds = new ConcurrentLinkedQueue<Long>();
+        final var unexpectedFailures = new ConcurrentLinkedQueue<Throwable>();
+        final var ready = new CountDownLatch(THREAD_COUNT);
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        // when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                ready.countDown();
+                await(start);
+                for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                    runRandomOperation(tableGroupIds, unexpectedFailures);
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        executor.shutdown();
+        final var terminated = executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        // then
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        assertAll(
+                () -> assertThat(terminated).isTrue(),
+                () -> assertThat(unexpectedFailures).isEmpty(),
+                () -> assertThat(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM order_table WHERE table_group_id IS NOT NULL AND empty = TRUE",
+                        Long.class)).isZero(),
+                () -> assertThat(jdbcTemplate.queryForList(
+                        "SELECT table_group_id FROM order_table WHERE table_group_id IS NOT NULL"
+                                + " GROUP BY table_group_id HAVING COUNT(*) < 2",
+                        Long.class)).isEmpty()
+        );
+    }
+
+    private void runRandomOperation(final Queue<Long> tableGroupIds, final Queue<Throwable> unexpectedFailures) {
+        final var random = ThreadLocalRandom.current();
+
+        try {
+            switch (random.nextInt(3)) {
+                case 0:
+                    final var first = random.nextInt(TABLE_COUNT);
+                    final var second = (first + 1 + random.nextInt(TABLE_COUNT - 1)) % TABLE_COUNT;
+                    tableGroupIds.add(tableGroupService.create(new TableGroupCreateRequest(
+                            List.of(orderTableIds.get(first), orderTableIds.get(second)))).getId());
+                    break;
+                case 1:
+                    final var tableGroupId = tableGroupIds.poll();
+                    if (Objects.nonNull(tableGroupId)) {
+                        tableGroupService.unGroup(tableGroupId);
+                    }
+                    break;
+                default:
+                    tableService.changeEmpty(orderTableIds.get(random.nextInt(TABLE_COUNT)),
+                            new OrderTableChangeEmptyRequest(random.nextBoolean()));
+            }
+        } catch (final IllegalArgumentException | KitchenPosException e) {
+            if (e instanceof OrderTableLockTimeoutException) {
+                unexpectedFailures.add(e);
+            }
+        } catch (final Throwable e) {
+            unexpectedFailures.add(e);
+        }
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -6,11 +6,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.io.StringReader;
 import java.math.BigDecimal;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.support.ProductImportFormat;
 import kitchenpos.exception.badrequest.PriceInvalidException;
+import kitchenpos.exception.badrequest.ProductImportLineTooLongException;
 import kitchenpos.exception.badrequest.ProductNameInvalidException;
+import kitchenpos.exception.notfound.ProductNotFoundException;
 import kitchenpos.ui.dto.request.ProductCreateRequest;
+import kitchenpos.repository.ProductRepository;
+import kitchenpos.ui.dto.request.ProductPriceChangeRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -21,6 +30,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 class ProductServiceTest extends ServiceTest {
     @Autowired
     private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
 
     @DisplayName("프로덕트를 생성할 수 있다")
     @Test
@@ -33,7 +44,7 @@ class ProductServiceTest extends ServiceTest {
 
         // then
         assertAll(
-                () -> assertThat(actual.getId()).isEqualTo(1L),
+                () -> assertThat(actual.getId()).isNotNull(),
                 () -> assertThat(actual.getName()).isEqualTo(productRequest.getName()),
                 () -> assertThat(actual.getPrice().getValue()).isEqualTo(productRequest.getPrice())
         );
@@ -69,8 +80,8 @@ class ProductServiceTest extends ServiceTest {
     @Test
     void list() {
         // given
-        productService.create(까르보치킨_생성요청);
-        productService.create(짜장치킨_생성요청);
+        final var 까르보치킨 = productService.create(까르보치킨_생성요청);
+        final var 짜장치킨 = productService.create(짜장치킨_생성요청);
 
         // when
         final var products = productService.list();
@@ -79,7 +90,7 @@ class ProductServiceTest extends ServiceTest {
         assertAll(
                 () -> assertThat(products.size()).isEqualTo(2),
                 () -> assertThat(products).extracting("id")
-                        .containsExactly(1L, 2L),
+                        .containsExactly(까르보치킨.getId(), 짜장치킨.getId()),
                 () -> assertThat(products).extracting("name")
                         .containsExactly(까르보치킨_생성요청.getName(), 짜장치킨_생성요청.getName()),
                 () -> assertThat(products).extracting("price")
@@ -87,4 +98,151 @@ class ProductServiceTest extends ServiceTest {
                         .containsExactly(까르보치킨_생성요청.getPrice(), 짜장치킨_생성요청.getPrice())
         );
     }
+
+    @DisplayName("프로덕트 가격을 변경할 수 있다")
+    @Test
+    void changePrice() {
+        // given
+        final var product = productService.create(까르보치킨_생성요청);
+        final var request = new ProductPriceChangeRequest(new BigDecimal("22000.00"));
+
+        // when
+        productService.changePrice(product.getId(), request);
+
+        // then
+        assertThat(productService.list()).extracting("price")
+                .extracting("price")
+                .containsExactly(request.getPrice());
+    }
+
+    @DisplayName("존재하지 않는 프로덕트의 가격을 변경하면 예외가 발생한다")
+    @Test
+    void changePrice_fail_when_product_does_not_exist() {
+        // given
+        final var request = new ProductPriceChangeRequest(new BigDecimal("22000.00"));
+
+        // when & then
+        assertThatThrownBy(() -> productService.changePrice(-1L, request))
+                .isInstanceOf(ProductNotFoundException.class);
+    }
+
+    @DisplayName("프로덕트 가격을 0 보다 작게 변경하면 예외가 발생한다")
+    @Test
+    void changePrice_fail_when_price_is_less_than_zero() {
+        // given
+        final var product = productService.create(까르보치킨_생성요청);
+        final var request = new ProductPriceChangeRequest(new BigDecimal("-1000.00"));
+
+        // when & then
+        assertThatThrownBy(() -> productService.changePrice(product.getId(), request))
+                .isInstanceOf(PriceInvalidException.class);
+    }
+
+    @DisplayName("CSV로 프로덕트를 일괄 등록하고 실패한 행을 보고한다")
+    @Test
+    void importAll_csv() {
+        // given
+        final var csv = "name,price\n"
+                + "까르보치킨,20000.00\n"
+                + "\n"
+                + "\"양념, 반반\",18000.00\n"
+                + "짜장치킨,-1000.00\n"
+                + " ,17000.00\n"
+                + "간장치킨,만원\n"
+                + "\"따옴표가 닫히지 않은 치킨,17000.00\n";
+
+        // when
+        final var report = productService.importAll(ProductImportFormat.CSV, new StringReader(csv));
+
+        // then
+        assertAll(
+                () -> assertThat(report.getImportedCount()).isEqualTo(2L),
+                () -> assertThat(report.getFailedCount()).isEqualTo(4L),
+                () -> assertThat(report.getFailures()).extracting("lineNumber").containsExactly(5L, 6L, 7L, 8L),
+                () -> assertThat(productService.list()).extracting("name").containsExactly("까르보치킨", "양념, 반반")
+        );
+    }
+
+    @DisplayName("NDJSON으로 프로덕트를 일괄 등록하고 실패한 행을 보고한다")
+    @Test
+    void importAll_ndjson() {
+        // given
+        final var ndjson = "{\"name\":\"까르보치킨\",\"price\":20000.00}\n"
+                + "{\"name\":\"짜장치킨\"}\n"
+                + "{\"name\":\"간장치킨\",\n"
+                + "{\"name\":\"양념치킨\",\"price\":18000.00}\n";
+
+        // when
+        final var report = productService.importAll(ProductImportFormat.NDJSON, new StringReader(ndjson));
+
+        // then
+        assertAll(
+                () -> assertThat(report.getImportedCount()).isEqualTo(2L),
+                () -> assertThat(report.getFailures()).extracting("lineNumber").containsExactly(2L, 3L),
+                () -> assertThat(productService.list()).extracting("name").containsExactly("까르보치킨", "양념치킨")
+        );
+    }
+
+    @DisplayName("일괄 등록은 배치 크기를 넘는 행을 여러 배치로 나눠 저장한다")
+    @Test
+    void importAll_over_multiple_batches() {
+        // given
+        final var rowCount = 1201;
+        final var ndjson = IntStream.rangeClosed(1, rowCount)
+                .mapToObj(index -> "{\"name\":\"치킨" + index + "\",\"price\":1000.00}")
+                .collect(Collectors.joining("\n"));
+
+        // when
+        final var report = productService.importAll(ProductImportFormat.NDJSON, new StringReader(ndjson));
+        final var importedIds = productService.list().stream()
+                .map(Product::getId)
+                .collect(Collectors.toList());
+
+        // then
+        assertAll(
+                () -> assertThat(report.getImportedCount()).isEqualTo(rowCount),
+                () -> assertThat(report.getFailedCount()).isZero(),
+                () -> assertThat(importedIds).hasSize(rowCount).doesNotHaveDuplicates(),
+                () -> assertThat(productRepository.findByIdIn(importedIds)).hasSize(rowCount)
+        );
+    }
+
+    @DisplayName("배치 저장에 실패하면 행을 하나씩 다시 저장하고 저장에 실패한 행만 보고한다")
+    @Test
+    void importAll_retries_failed_batch_row_by_row() {
+        // given
+        final var csv = "까르보치킨,20000.00\n"
+                + "치".repeat(256) + ",18000.00\n"
+                + "양념치킨,17000.00\n";
+
+        // when
+        final var report = productService.importAll(ProductImportFormat.CSV, new StringReader(csv));
+
+        // then
+        assertAll(
+                () -> assertThat(report.getImportedCount()).isEqualTo(2),
+                () -> assertThat(report.getFailures()).extracting("lineNumber").containsExactly(2L),
+                () -> assertThat(productService.list()).extracting("name").containsExactly("까르보치킨", "양념치킨")
+        );
+    }
+
+    @DisplayName("최대 길이를 넘는 행은 실패로 보고하고 다음 행부터 계속 읽는다")
+    @Test
+    void importAll_reports_too_long_line() {
+        // given
+        final var csv = "까르보치킨," + "1".repeat(5000) + "\r\n"
+                + "양념치킨,17000.00\r\n";
+
+        // when
+        final var report = productService.importAll(ProductImportFormat.CSV, new StringReader(csv));
+
+        // then
+        assertAll(
+                () -> assertThat(report.getImportedCount()).isEqualTo(1),
+                () -> assertThat(report.getFailures()).extracting("lineNumber").containsExactly(1L),
+                () -> assertThat(report.getFailures()).extracting("failureMessage")
+                        .containsExactly(new ProductImportLineTooLongException(4096).getMessage()),
+                () -> assertThat(productService.list()).extracting("name").containsExactly("양념치킨")
+        );
+    }
 }
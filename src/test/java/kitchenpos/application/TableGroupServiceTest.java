@@ -5,11 +5,15 @@ import static kitchenpos.KitchenPosFixtures.오인용_테이블;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import javax.sql.DataSource;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuProduct;
@@ -18,14 +22,18 @@ import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.Product;
+import kitchenpos.domain.TableGroupMapper;
+import kitchenpos.domain.support.TableBoard;
 import kitchenpos.domain.vo.MenuPrice;
 import kitchenpos.domain.vo.ProductPrice;
+import kitchenpos.exception.badrequest.OrderTableGroupingConflictException;
 import kitchenpos.exception.badrequest.TableGroupIdInvalidException;
 import kitchenpos.exception.notfound.TableGroupNotFoundException;
 import kitchenpos.repository.MenuGroupRepository;
 import kitchenpos.repository.MenuRepository;
 import kitchenpos.repository.OrderRepository;
 import kitchenpos.repository.ProductRepository;
+import kitchenpos.repository.TableGroupRepository;
 import kitchenpos.ui.dto.request.OrderTableCreateRequest;
 import kitchenpos.ui.dto.request.TableGroupCreateRequest;
 import kitchenpos.ui.dto.response.TableGroupResponse;
@@ -34,6 +42,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 
 class TableGroupServiceTest extends ServiceTest {
     @Autowired
@@ -48,6 +57,14 @@ class TableGroupServiceTest extends ServiceTest {
     private ProductRepository productRepository;
     @Autowired
     private MenuGroupRepository menuGroupRepository;
+    @Autowired
+    private TableBoard tableBoard;
+    @Autowired
+    private TableGroupRepository tableGroupRepository;
+    @Autowired
+    private DataSource dataSource;
+    @SpyBean
+    private TableGroupMapper tableGroupMapper;
     private OrderTable tableA;
     private OrderTable tableB;
     private Product product;
@@ -78,7 +95,7 @@ class TableGroupServiceTest extends ServiceTest {
 
         // then
         assertAll(
-                () -> assertThat(tableGroup.getId()).isEqualTo(1L),
+                () -> assertThat(tableGroup.getId()).isNotNull(),
                 () -> assertThat(tableGroup.getCreatedDate()).isAfter(beforeRequest),
                 () -> assertThat(tableGroup.getCreatedDate()).isBefore(afterRequest),
                 () -> assertThat(tableGroup.getOrderTables())
@@ -164,6 +181,55 @@ class TableGroupServiceTest extends ServiceTest {
         );
     }
 
+    @DisplayName("그룹 지정과 해제는 커밋 이후 테이블 보드에 반영된다")
+    @Test
+    void table_group_changes_are_applied_to_table_board_after_commit() {
+        // given
+        final var tableGroupRequest = new TableGroupCreateRequest(List.of(tableA.getId(), tableB.getId()));
+
+        // when
+        final var tableGroup = tableGroupService.create(tableGroupRequest);
+        final var groupedTables = tableBoard.snapshot().getTables().values();
+        tableGroupService.unGroup(tableGroup.getId());
+        final var unGroupedTables = tableBoard.snapshot().getTables().values();
+
+        // then
+        assertAll(
+                () -> assertThat(groupedTables).extracting("tableGroupId")
+                        .containsExactly(tableGroup.getId(), tableGroup.getId()),
+                () -> assertThat(groupedTables).extracting("empty").containsExactly(false, false),
+                () -> assertThat(unGroupedTables).extracting("tableGroupId").containsExactly(null, null)
+        );
+    }
+
+    @DisplayName("그룹 지정 UPDATE가 다른 변경과 충돌하면 요청이 실패하고 테이블 그룹이 남지 않는다")
+    @Test
+    void conflicting_grouping_fails_the_request() {
+        // given
+        final var tableGroupRequest = new TableGroupCreateRequest(List.of(tableA.getId(), tableB.getId()));
+        doAnswer(invocation -> {
+            final var tableGroup = invocation.callRealMethod();
+            changeEmptyFromAnotherConnection(tableB.getId());
+            return tableGroup;
+        }).when(tableGroupMapper).mapFrom(any());
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> tableGroupService.create(tableGroupRequest))
+                        .isInstanceOf(OrderTableGroupingConflictException.class),
+                () -> assertThat(tableGroupRepository.findAll()).isEmpty(),
+                () -> assertThat(tableService.list()).extracting("tableGroupId").containsExactly(null, null)
+        );
+    }
+
+    private void changeEmptyFromAnotherConnection(final Long orderTableId) throws SQLException {
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.prepareStatement("UPDATE order_table SET empty = false WHERE id = ?")) {
+            statement.setLong(1, orderTableId);
+            statement.executeUpdate();
+        }
+    }
+
     @DisplayName("TableGroupService의 unGroup 메서드는")
     @Nested
     class UnGroup {
@@ -175,7 +241,7 @@ class TableGroupServiceTest extends ServiceTest {
 
             // when & then
             assertAll(
-                    () -> assertThat(tableGroupResponse.getId()).isEqualTo(1L),
+                    () -> assertThat(tableGroupResponse.getId()).isNotNull(),
                     () -> assertThatThrownBy(() -> tableGroupService.unGroup(null))
                             .isInstanceOf(TableGroupIdInvalidException.class),
                     () -> assertThatThrownBy(() -> tableGroupService.unGroup(-1L))
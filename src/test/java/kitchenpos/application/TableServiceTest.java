@@ -7,8 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import javax.sql.DataSource;
+import kitchenpos.SqlBudget;
 import kitchenpos.domain.Order;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.support.TableBoard;
 import kitchenpos.exception.badrequest.OrderTableAlreadyInGroupException;
 import kitchenpos.exception.badrequest.OrderTableNegativeNumberOfGuestsException;
 import kitchenpos.exception.badrequest.OrderTableUnableToChangeNumberOfGuestsWhenEmptyException;
@@ -22,6 +25,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 class TableServiceTest extends ServiceTest {
     @Autowired
@@ -30,6 +34,10 @@ class TableServiceTest extends ServiceTest {
     private TableGroupService tableGroupService;
     @Autowired
     private OrderRepository orderRepository;
+    @Autowired
+    private TableBoard tableBoard;
+    @Autowired
+    private DataSource dataSource;
 
     @DisplayName("테이블을 생성할 수 있다")
     @Test
@@ -44,7 +52,7 @@ class TableServiceTest extends ServiceTest {
 
         // then
         assertAll(
-                () -> assertThat(actual.getId()).isEqualTo(1L),
+                () -> assertThat(actual.getId()).isNotNull(),
                 () -> assertThat(actual.getNumberOfGuests()).isEqualTo(expectedNumberOfGuests),
                 () -> assertThat(actual.isEmpty()).isEqualTo(expectedEmpty)
         );
@@ -65,22 +73,101 @@ class TableServiceTest extends ServiceTest {
     @Test
     void list() {
         // given
-        tableService.create(new OrderTableCreateRequest(0, true));
-        tableService.create(new OrderTableCreateRequest(3, false));
-        tableService.create(new OrderTableCreateRequest(5, true));
+        final var table1 = tableService.create(new OrderTableCreateRequest(0, true));
+        final var table2 = tableService.create(new OrderTableCreateRequest(3, false));
+        final var table3 = tableService.create(new OrderTableCreateRequest(5, true));
 
         // when
         final var actual = tableService.list();
 
         // then
         assertAll(
-                () -> assertThat(actual).extracting("id").containsExactly(1L, 2L, 3L),
+                () -> assertThat(actual).extracting("id")
+                        .containsExactly(table1.getId(), table2.getId(), table3.getId()),
                 () -> assertThat(actual).extracting("tableGroupId").containsExactly(null, null, null),
                 () -> assertThat(actual).extracting("numberOfGuests").containsExactly(0, 3, 5),
                 () -> assertThat(actual).extracting("empty").containsExactly(true, false, true)
         );
     }
 
+    @DisplayName("전체 테이블 목록 조회는 한 번의 SQL로 끝난다")
+    @Test
+    void list_within_sql_budget() {
+        // given
+        tableService.create(new OrderTableCreateRequest(0, true));
+        tableService.create(new OrderTableCreateRequest(3, false));
+
+        // when
+        final var actual = SqlBudget.assertMaxStatements(1, () -> tableService.list());
+
+        // then
+        assertThat(actual).hasSize(2);
+    }
+
+    @DisplayName("테이블 생성과 상태 변경이 커밋되면 테이블 보드에 반영된다")
+    @Test
+    void table_board_follows_commits() {
+        // given
+        final var table = tableService.create(new OrderTableCreateRequest(0, true));
+
+        // when
+        tableService.changeEmpty(table.getId(), new OrderTableChangeEmptyRequest(false));
+        tableService.changeNumberOfGuests(table.getId(), new OrderTableChangeNumberOfGuestsRequest(4));
+        final var entry = tableBoard.snapshot().getTables().get(table.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(entry.isEmpty()).isFalse(),
+                () -> assertThat(entry.getNumberOfGuests()).isEqualTo(4),
+                () -> assertThat(entry.getTableGroupId()).isNull()
+        );
+    }
+
+    @DisplayName("단체 지정과 해제가 커밋되면 테이블 보드의 그룹 정보가 갱신된다")
+    @Test
+    void table_board_follows_table_groups() {
+        // given
+        final var table1 = tableService.create(new OrderTableCreateRequest(0, true));
+        final var table2 = tableService.create(new OrderTableCreateRequest(0, true));
+
+        // when
+        final var tableGroup = tableGroupService.create(
+                new TableGroupCreateRequest(List.of(table1.getId(), table2.getId())));
+        final var groupedTables = tableBoard.snapshot().getTables();
+        tableGroupService.unGroup(tableGroup.getId());
+        final var unGroupedTables = tableBoard.snapshot().getTables();
+
+        // then
+        assertAll(
+                () -> assertThat(groupedTables.values()).extracting("tableGroupId")
+                        .containsOnly(tableGroup.getId()),
+                () -> assertThat(groupedTables.values()).extracting("empty")
+                        .containsOnly(false),
+                () -> assertThat(unGroupedTables.values()).extracting("tableGroupId")
+                        .containsOnlyNulls()
+        );
+    }
+
+    @DisplayName("데이터베이스와 어긋난 테이블 보드는 대조 작업으로 바로잡힌다")
+    @Test
+    void table_board_is_reconciled_with_database() {
+        // given
+        final var table = tableService.create(new OrderTableCreateRequest(3, false));
+        new JdbcTemplate(dataSource).update(
+                "UPDATE order_table SET number_of_guests = 7, version = version + 1 WHERE id = ?", table.getId());
+        final var staleEntry = tableBoard.snapshot().getTables().get(table.getId());
+
+        // when
+        tableBoard.reconcile();
+        final var reconciledEntry = tableBoard.snapshot().getTables().get(table.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(staleEntry.getNumberOfGuests()).isEqualTo(3),
+                () -> assertThat(reconciledEntry.getNumberOfGuests()).isEqualTo(7)
+        );
+    }
+
     @DisplayName("changeEmpty 메서드는")
     @Nested
     class ChangeEmpty {
@@ -121,7 +208,8 @@ class TableServiceTest extends ServiceTest {
             final var table1 = tableService.create(new OrderTableCreateRequest(0, true));
             final var table2 = tableService.create(new OrderTableCreateRequest(0, true));
             final var tableGroupCreateRequest = new TableGroupCreateRequest(List.of(table1.getId(), table2.getId()));
-            final var groupedTables = tableGroupService.create(tableGroupCreateRequest).getOrderTables();
+            final var tableGroup = tableGroupService.create(tableGroupCreateRequest);
+            final var groupedTables = tableGroup.getOrderTables();
 
             // when
             final var table1ChangeRequest = new OrderTableChangeEmptyRequest(table1.isEmpty());
@@ -131,7 +219,7 @@ class TableServiceTest extends ServiceTest {
             assertAll(
                     () -> assertThat(groupedTables)
                             .extracting("tableGroupId")
-                            .containsExactly(1L, 1L),
+                            .containsExactly(tableGroup.getId(), tableGroup.getId()),
                     () -> assertThatThrownBy(() -> tableService.changeEmpty(table1.getId(), table1ChangeRequest))
                             .isInstanceOf(OrderTableAlreadyInGroupException.class),
                     () -> assertThatThrownBy(() -> tableService.changeEmpty(table2.getId(), table2ChangeRequest))
@@ -10,9 +10,15 @@ import io.restassured.module.mockmvc.specification.MockMvcRequestSpecification;
 import kitchenpos.application.MenuGroupService;
 import kitchenpos.application.MenuService;
 import kitchenpos.application.OrderService;
+import kitchenpos.application.OrderSummaryService;
 import kitchenpos.application.ProductService;
 import kitchenpos.application.TableGroupService;
 import kitchenpos.application.TableService;
+import kitchenpos.domain.support.IdempotencyStore;
+import kitchenpos.domain.support.MenuCatalog;
+import kitchenpos.domain.support.MenuPriceIndex;
+import kitchenpos.domain.support.OrderEventFeed;
+import kitchenpos.domain.support.TableBoard;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -33,11 +39,23 @@ public class DocumentationTest {
     @MockBean
     protected OrderService orderService;
     @MockBean
+    protected OrderSummaryService orderSummaryService;
+    @MockBean
     protected ProductService productService;
     @MockBean
     protected TableGroupService tableGroupService;
     @MockBean
     protected TableService tableService;
+    @MockBean
+    protected OrderEventFeed orderEventFeed;
+    @MockBean
+    protected IdempotencyStore idempotencyStore;
+    @MockBean
+    protected MenuCatalog menuCatalog;
+    @MockBean
+    protected MenuPriceIndex menuPriceIndex;
+    @MockBean
+    protected TableBoard tableBoard;
 
     @BeforeEach
     void setDocsGiven(final WebApplicationContext webApplicationContext,
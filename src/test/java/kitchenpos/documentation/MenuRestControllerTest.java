@@ -1,22 +1,31 @@
 package kitchenpos.documentation;
 
+import static kitchenpos.KitchenPosFixtures.objectMapper;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import java.math.BigDecimal;
 import java.util.List;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.Product;
+import kitchenpos.domain.support.MenuCatalogSnapshot;
+import kitchenpos.domain.support.MenuPriceAggregate;
 import kitchenpos.domain.vo.MenuPrice;
 import kitchenpos.domain.vo.ProductPrice;
+import kitchenpos.repository.MenuPriceComponent;
 import kitchenpos.ui.dto.request.MenuCreateRequest;
 import kitchenpos.ui.dto.request.MenuProductRequest;
+import kitchenpos.ui.dto.response.MenuResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -81,10 +90,10 @@ class MenuRestControllerTest extends DocumentationTest {
 
     @DisplayName("GET " + MENU_API_URL)
     @Test
-    void list() {
+    void list() throws JsonProcessingException {
         final var menuGroup = new MenuGroup(1L, "한 마리 메뉴");
-        given(menuService.list())
-                .willReturn(List.of(
+        given(menuCatalog.snapshot())
+                .willReturn(catalogOf(List.of(
                                 new Menu(1L, "까르보 한 마리", MenuPrice.from(new BigDecimal("18000.00")), menuGroup.getId(),
                                         List.of(
                                                 new MenuProduct(1L, null, productA, 1L)
@@ -95,7 +104,7 @@ class MenuRestControllerTest extends DocumentationTest {
                                                 new MenuProduct(2L, null, productA, 2L)
                                         )
                                 )
-                        )
+                        ))
                 );
 
         docsGiven
@@ -103,6 +112,9 @@ class MenuRestControllerTest extends DocumentationTest {
                 .when().get(MENU_API_URL)
                 .then().log().all()
                 .apply(document("menus/list",
+                        responseHeaders(
+                                headerWithName("ETag").description("메뉴 카탈로그 버전. 다음 조회 시 If-None-Match 헤더로 보낸다")
+                        ),
                         responseFields(
                                 fieldWithPath("[].id").type(JsonFieldType.NUMBER).description("메뉴 아이디"),
                                 fieldWithPath("[].name").type(JsonFieldType.STRING).description("메뉴 이름"),
@@ -120,4 +132,51 @@ class MenuRestControllerTest extends DocumentationTest {
                 ))
                 .statusCode(HttpStatus.OK.value());
     }
+
+    @DisplayName("GET " + MENU_API_URL + " (Not Modified)")
+    @Test
+    void list_not_modified() throws JsonProcessingException {
+        final var catalog = catalogOf(List.of());
+        given(menuCatalog.snapshot()).willReturn(catalog);
+
+        docsGiven
+                .header("If-None-Match", catalog.getETag())
+                .when().get(MENU_API_URL)
+                .then().log().all()
+                .apply(document("menus/list-not-modified",
+                        requestHeaders(
+                                headerWithName("If-None-Match").description("마지막으로 받은 메뉴 카탈로그의 ETag")
+                        )
+                ))
+                .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @DisplayName("GET " + MENU_API_URL + "/overpriced")
+    @Test
+    void listOverpriced() {
+        given(menuPriceIndex.findOverpricedMenus())
+                .willReturn(List.of(MenuPriceAggregate.from(List.of(
+                        new MenuPriceComponent(1L, "까르보 두 마리", MenuPrice.from("38000.00"), productA.getId(), 2L,
+                                ProductPrice.from("18000.00"))
+                ))));
+
+        docsGiven
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().get(MENU_API_URL + "/overpriced")
+                .then().log().all()
+                .apply(document("menus/list-overpriced",
+                        responseFields(
+                                fieldWithPath("[].id").type(JsonFieldType.NUMBER).description("메뉴 아이디"),
+                                fieldWithPath("[].name").type(JsonFieldType.STRING).description("메뉴 이름"),
+                                fieldWithPath("[].price").type(JsonFieldType.NUMBER).description("메뉴 가격"),
+                                fieldWithPath("[].totalPriceOfMenuProducts").type(JsonFieldType.NUMBER)
+                                        .description("메뉴 프로덕트 가격 합계")
+                        )
+                ))
+                .statusCode(HttpStatus.OK.value());
+    }
+
+    private MenuCatalogSnapshot catalogOf(final List<Menu> menus) throws JsonProcessingException {
+        return MenuCatalogSnapshot.from(objectMapper.writeValueAsBytes(MenuResponse.from(menus)));
+    }
 }
@@ -2,23 +2,33 @@ package kitchenpos.documentation;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderCreationResult;
 import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.exception.badrequest.OrderFailureOnEmptyOrderTableException;
 import kitchenpos.ui.dto.request.OrderChangeStatusRequest;
 import kitchenpos.ui.dto.request.OrderCreateRequest;
 import kitchenpos.ui.dto.request.OrderLineItemRequest;
+import kitchenpos.ui.dto.response.OrderResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
@@ -73,11 +83,74 @@ class OrderRestControllerTest extends DocumentationTest {
                 .statusCode(HttpStatus.CREATED.value());
     }
 
+    @DisplayName("POST " + ORDER_API_URL + "/batch")
+    @Test
+    void createAll() {
+        given(orderService.createAll(any()))
+                .willReturn(List.of(
+                        OrderCreationResult.success(
+                                new Order(1L, 5L, OrderStatus.COOKING, LocalDateTime.now(),
+                                        List.of(
+                                                new OrderLineItem(1L, null, 1L, 1L),
+                                                new OrderLineItem(2L, null, 3L, 2L)
+                                        )
+                                )
+                        ),
+                        OrderCreationResult.failure(new OrderFailureOnEmptyOrderTableException(7L))
+                ));
+        final var orderCreateRequests = List.of(
+                new OrderCreateRequest(5L, List.of(
+                        new OrderLineItemRequest(1L, 1L), new OrderLineItemRequest(3L, 2L)
+                )),
+                new OrderCreateRequest(7L, List.of(new OrderLineItemRequest(1L, 1L)))
+        );
+
+        docsGiven
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(orderCreateRequests)
+                .when().post(ORDER_API_URL + "/batch")
+                .then().log().all()
+                .apply(document("orders/createAll",
+                        requestFields(
+                                fieldWithPath("[].orderTableId").type(JsonFieldType.NUMBER).description("주문 테이블 아이디"),
+                                fieldWithPath("[].orderLineItems.[].menuId").type(JsonFieldType.NUMBER)
+                                        .description("메뉴 아이디"),
+                                fieldWithPath("[].orderLineItems.[].quantity").type(JsonFieldType.NUMBER)
+                                        .description("메뉴 수량")
+                        ),
+                        responseFields(
+                                fieldWithPath("[].index").type(JsonFieldType.NUMBER).description("요청 목록에서의 순서"),
+                                fieldWithPath("[].success").type(JsonFieldType.BOOLEAN).description("주문 생성 성공 여부"),
+                                fieldWithPath("[].order").type(JsonFieldType.OBJECT).description("생성된 주문. 실패 시 null")
+                                        .optional(),
+                                fieldWithPath("[].order.id").type(JsonFieldType.NUMBER).description("주문 아이디")
+                                        .optional(),
+                                fieldWithPath("[].order.orderTableId").type(JsonFieldType.NUMBER)
+                                        .description("주문 테이블 아이디").optional(),
+                                fieldWithPath("[].order.orderStatus").type(JsonFieldType.STRING).description("주문 상태")
+                                        .optional(),
+                                fieldWithPath("[].order.orderedTime").type(JsonFieldType.STRING).description("주문 일시")
+                                        .optional(),
+                                fieldWithPath("[].order.orderLineItems.[].seq").type(JsonFieldType.NUMBER)
+                                        .description("주문 아이템 seq").optional(),
+                                fieldWithPath("[].order.orderLineItems.[].orderId").type(JsonFieldType.NUMBER)
+                                        .description("주문 아이템 주문 아이디").optional(),
+                                fieldWithPath("[].order.orderLineItems.[].menuId").type(JsonFieldType.NUMBER)
+                                        .description("주문 아이템 메뉴 아이디").optional(),
+                                fieldWithPath("[].order.orderLineItems.[].quantity").type(JsonFieldType.NUMBER)
+                                        .description("주문 아이템 메뉴 수량").optional(),
+                                fieldWithPath("[].failureMessage").type(JsonFieldType.STRING)
+                                        .description("실패 사유. 성공 시 null").optional()
+                        )
+                ))
+                .statusCode(HttpStatus.OK.value());
+    }
+
     @DisplayName("GET " + ORDER_API_URL)
     @Test
     void list() {
-        given(orderService.list())
-                .willReturn(
+        given(orderService.list(any()))
+                .willReturn(new SliceImpl<>(
                         List.of(
                                 new Order(1L, 5L, OrderStatus.COOKING, LocalDateTime.now(),
                                         List.of(
@@ -91,14 +164,30 @@ class OrderRestControllerTest extends DocumentationTest {
                                                 new OrderLineItem(4L, null, 23L, 1L)
                                         )
                                 )
-                        )
-                );
+                        ),
+                        PageRequest.of(0, 2),
+                        true
+                ));
 
         docsGiven
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("cursor", 0)
+                .queryParam("size", 2)
+                .queryParam("orderStatus", OrderStatus.COOKING.name())
                 .when().get(ORDER_API_URL)
                 .then().log().all()
                 .apply(document("orders/list",
+                        requestParameters(
+                                parameterWithName("cursor").description("직전 페이지의 마지막 주문 아이디").optional(),
+                                parameterWithName("size").description("페이지 크기 (기본 100, 최대 1000)").optional(),
+                                parameterWithName("orderStatus").description("주문 상태 필터").optional(),
+                                parameterWithName("orderTableId").description("주문 테이블 아이디 필터").optional(),
+                                parameterWithName("orderedTimeFrom").description("주문 일시 시작(포함) 필터").optional(),
+                                parameterWithName("orderedTimeTo").description("주문 일시 종료(미포함) 필터").optional()
+                        ),
+                        responseHeaders(
+                                headerWithName("Next-Cursor").description("다음 페이지 조회용 커서. 마지막 페이지면 생략된다")
+                        ),
                         responseFields(
                                 fieldWithPath("[].id").type(JsonFieldType.NUMBER).description("주문 아이디"),
                                 fieldWithPath("[].orderTableId").type(JsonFieldType.NUMBER).description("주문 테이블 아이디"),
@@ -117,6 +206,27 @@ class OrderRestControllerTest extends DocumentationTest {
                 .statusCode(HttpStatus.OK.value());
     }
 
+    @DisplayName("GET " + ORDER_API_URL + "/export")
+    @Test
+    void export() {
+        willAnswer(invocation -> {
+            final Consumer<OrderResponse> consumer = invocation.getArgument(0);
+            consumer.accept(OrderResponse.from(
+                    new Order(1L, 5L, OrderStatus.COMPLETION, LocalDateTime.now().minusHours(1L),
+                            List.of(new OrderLineItem(1L, null, 1L, 1L)))));
+            consumer.accept(OrderResponse.from(
+                    new Order(2L, 7L, OrderStatus.COOKING, LocalDateTime.now(),
+                            List.of(new OrderLineItem(2L, null, 3L, 2L)))));
+            return null;
+        }).given(orderService).exportAll(any());
+
+        docsGiven
+                .when().get(ORDER_API_URL + "/export")
+                .then().log().all()
+                .apply(document("orders/export"))
+                .statusCode(HttpStatus.OK.value());
+    }
+
     @DisplayName("PUT " + ORDER_API_URL)
     @Test
     void changeOrderStatus() {
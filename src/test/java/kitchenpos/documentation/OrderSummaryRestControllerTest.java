@@ -0,0 +1,82 @@
+package kitchenpos.documentation;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.repository.OrderSummaryStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.restdocs.payload.JsonFieldType;
+
+class OrderSummaryRestControllerTest extends DocumentationTest {
+    private static final String ORDER_SUMMARY_API_URL = "/api/order-summaries";
+
+    @DisplayName("GET " + ORDER_SUMMARY_API_URL)
+    @Test
+    void list() {
+        given(orderSummaryService.list(any(), any()))
+                .willReturn(List.of(
+                        new OrderSummary(1L, 5L, OrderStatus.COOKING, 3L, new BigDecimal("52000.00"),
+                                LocalDateTime.now()),
+                        new OrderSummary(2L, 5L, OrderStatus.COOKING, 1L, new BigDecimal("17000.00"),
+                                LocalDateTime.now().plusMinutes(1L))
+                ));
+
+        docsGiven
+                .queryParam("orderTableId", 5L)
+                .queryParam("orderStatus", OrderStatus.COOKING.name())
+                .when().get(ORDER_SUMMARY_API_URL)
+                .then().log().all()
+                .apply(document("orders/summaries",
+                        requestParameters(
+                                parameterWithName("orderTableId").description("주문 테이블 아이디 필터").optional(),
+                                parameterWithName("orderStatus").description("주문 상태 필터").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("[].orderId").type(JsonFieldType.NUMBER).description("주문 아이디"),
+                                fieldWithPath("[].orderTableId").type(JsonFieldType.NUMBER).description("주문 테이블 아이디"),
+                                fieldWithPath("[].orderStatus").type(JsonFieldType.STRING).description("주문 상태"),
+                                fieldWithPath("[].itemCount").type(JsonFieldType.NUMBER).description("주문 메뉴 수량 합계"),
+                                fieldWithPath("[].totalAmount").type(JsonFieldType.NUMBER).description("주문 금액 합계"),
+                                fieldWithPath("[].orderedTime").type(JsonFieldType.STRING).description("주문 일시")
+                        )
+                ))
+                .statusCode(HttpStatus.OK.value());
+    }
+
+    @DisplayName("GET " + ORDER_SUMMARY_API_URL + "/statistics")
+    @Test
+    void statistics() {
+        given(orderSummaryService.statistics())
+                .willReturn(List.of(
+                        new OrderSummaryStatistics(5L, OrderStatus.COOKING, 2L, 4L, new BigDecimal("69000.00")),
+                        new OrderSummaryStatistics(5L, OrderStatus.COMPLETION, 1L, 2L, new BigDecimal("34000.00")),
+                        new OrderSummaryStatistics(7L, OrderStatus.MEAL, 1L, 1L, new BigDecimal("17000.00"))
+                ));
+
+        docsGiven
+                .when().get(ORDER_SUMMARY_API_URL + "/statistics")
+                .then().log().all()
+                .apply(document("orders/summaryStatistics",
+                        responseFields(
+                                fieldWithPath("[].orderTableId").type(JsonFieldType.NUMBER).description("주문 테이블 아이디"),
+                                fieldWithPath("[].orderStatus").type(JsonFieldType.STRING).description("주문 상태"),
+                                fieldWithPath("[].orderCount").type(JsonFieldType.NUMBER).description("주문 수"),
+                                fieldWithPath("[].itemCount").type(JsonFieldType.NUMBER).description("주문 메뉴 수량 합계"),
+                                fieldWithPath("[].totalAmount").type(JsonFieldType.NUMBER).description("주문 금액 합계")
+                        )
+                ))
+                .statusCode(HttpStatus.OK.value());
+    }
+}
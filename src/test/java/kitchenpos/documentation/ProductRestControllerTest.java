@@ -6,12 +6,17 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 
 import java.math.BigDecimal;
 import java.util.List;
 import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductImportReport;
+import kitchenpos.exception.badrequest.PriceInvalidException;
 import kitchenpos.domain.vo.ProductPrice;
 import kitchenpos.ui.dto.request.ProductCreateRequest;
+import kitchenpos.ui.dto.request.ProductPriceChangeRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -70,4 +75,59 @@ class ProductRestControllerTest extends DocumentationTest {
                 ))
                 .statusCode(HttpStatus.OK.value());
     }
+
+    @DisplayName("PUT /api/products/{productId}/price")
+    @Test
+    void changePrice() {
+        final var price = new BigDecimal("16000.00");
+        given(productService.changePrice(any(), any()))
+                .willReturn(new Product(1L, "까르보치킨", ProductPrice.from(price)));
+
+        docsGiven
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new ProductPriceChangeRequest(price))
+                .when().put(PRODUCT_API_URL + "/{productId}/price", 1)
+                .then().log().all()
+                .apply(document("products/change-price",
+                        pathParameters(parameterWithName("productId").description("수정 대상 프로덕트 아이디")),
+                        requestFields(
+                                fieldWithPath("price").type(JsonFieldType.NUMBER).description("변경할 프로덕트 가격")
+                        ),
+                        responseFields(
+                                fieldWithPath("id").type(JsonFieldType.NUMBER).description("프로덕트 아이디"),
+                                fieldWithPath("name").type(JsonFieldType.STRING).description("프로덕트 이름"),
+                                fieldWithPath("price").type(JsonFieldType.NUMBER).description("프로덕트 가격")
+                        )
+                ))
+                .statusCode(HttpStatus.OK.value());
+    }
+
+    @DisplayName("POST /api/products/import")
+    @Test
+    void importAll() {
+        final var report = new ProductImportReport(1000);
+        report.recordImported(2);
+        report.recordFailure(4L, new PriceInvalidException(new BigDecimal("-1000.00")));
+        given(productService.importAll(any(), any()))
+                .willReturn(report);
+
+        docsGiven
+                .contentType("text/csv")
+                .body("name,price\n까르보치킨,20000.00\n짜장치킨,18000.00\n간장치킨,-1000.00\n")
+                .when().post(PRODUCT_API_URL + "/import")
+                .then().log().all()
+                .apply(document("products/import",
+                        responseFields(
+                                fieldWithPath("importedCount").type(JsonFieldType.NUMBER).description("등록된 프로덕트 수"),
+                                fieldWithPath("failedCount").type(JsonFieldType.NUMBER).description("실패한 행 수"),
+                                fieldWithPath("failuresTruncated").type(JsonFieldType.BOOLEAN)
+                                        .description("보고 한도를 넘어 생략된 실패 행이 있는지 여부"),
+                                fieldWithPath("failures.[].lineNumber").type(JsonFieldType.NUMBER)
+                                        .description("실패한 행 번호"),
+                                fieldWithPath("failures.[].failureMessage").type(JsonFieldType.STRING)
+                                        .description("실패 사유")
+                        )
+                ))
+                .statusCode(HttpStatus.OK.value());
+    }
 }
@@ -1,5 +1,6 @@
 package kitchenpos.documentation;
 
+import static kitchenpos.KitchenPosFixtures.objectMapper;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -9,11 +10,15 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.response
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.List;
+import java.util.TreeMap;
 import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.support.TableBoardSnapshot;
 import kitchenpos.ui.dto.request.OrderTableChangeEmptyRequest;
 import kitchenpos.ui.dto.request.OrderTableChangeNumberOfGuestsRequest;
 import kitchenpos.ui.dto.request.OrderTableCreateRequest;
+import kitchenpos.ui.dto.response.OrderTableResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -54,13 +59,13 @@ class TableRestControllerTest extends DocumentationTest {
 
     @DisplayName("GET " + TABLE_API_URL)
     @Test
-    void list() {
-        given(tableService.list())
-                .willReturn(
+    void list() throws JsonProcessingException {
+        given(tableBoard.snapshot())
+                .willReturn(boardOf(
                         List.of(new OrderTable(1L, null, 0, true),
                                 new OrderTable(2L, 1L, 4, false),
                                 new OrderTable(3L, 1L, 4, false))
-                );
+                ));
 
         docsGiven
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -137,4 +142,9 @@ class TableRestControllerTest extends DocumentationTest {
                 ))
                 .statusCode(HttpStatus.OK.value());
     }
+
+    private TableBoardSnapshot boardOf(final List<OrderTable> orderTables) throws JsonProcessingException {
+        return TableBoardSnapshot.of(new TreeMap<>(),
+                objectMapper.writeValueAsBytes(OrderTableResponse.from(orderTables)));
+    }
 }
@@ -0,0 +1,62 @@
+package kitchenpos.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import kitchenpos.exception.badrequest.OrderStatusTransitionInvalidException;
+import kitchenpos.exception.notfound.OrderStatusNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class OrderStatusTest {
+    @DisplayName("대소문자를 구분하지 않고 주문 상태를 찾을 수 있다")
+    @CsvSource(value = {"COOKING,COOKING", "meal,MEAL", "Completion,COMPLETION"})
+    @ParameterizedTest
+    void from(final String value, final OrderStatus expected) {
+        assertThat(OrderStatus.from(value)).isSameAs(expected);
+    }
+
+    @DisplayName("존재하지 않는 주문 상태면 예외가 발생한다")
+    @NullAndEmptySource
+    @ValueSource(strings = {"COOK", "DONE"})
+    @ParameterizedTest
+    void from_should_fail_on_unknown_status(final String value) {
+        assertThatThrownBy(() -> OrderStatus.from(value))
+                .isInstanceOf(OrderStatusNotFoundException.class);
+    }
+
+    @DisplayName("조리중과 식사중은 진행 중, 계산 완료는 종료 상태이다")
+    @Test
+    void status_groups() {
+        assertThat(OrderStatus.activeStatuses()).containsExactly(OrderStatus.COOKING, OrderStatus.MEAL);
+        assertThat(OrderStatus.terminalStatuses()).containsExactly(OrderStatus.COMPLETION);
+    }
+
+    @DisplayName("주문 상태는 조리중 -> 식사중 -> 계산 완료 순서로만 바뀐다")
+    @CsvSource(value = {
+            "COOKING,COOKING,false", "COOKING,MEAL,true", "COOKING,COMPLETION,true",
+            "MEAL,COOKING,false", "MEAL,MEAL,false", "MEAL,COMPLETION,true",
+            "COMPLETION,COOKING,false", "COMPLETION,MEAL,false", "COMPLETION,COMPLETION,false"
+    })
+    @ParameterizedTest
+    void canChangeTo(final OrderStatus from, final OrderStatus to, final boolean expected) {
+        assertThat(from.canChangeTo(to)).isEqualTo(expected);
+    }
+
+    @DisplayName("식사중인 주문을 조리중으로 되돌리면 예외가 발생한다")
+    @Test
+    void order_should_not_move_backwards() {
+        // given
+        final var order = new Order(1L, OrderStatus.MEAL, LocalDateTime.now(), new ArrayList<>());
+
+        // when & then
+        assertThatThrownBy(() -> order.changeOrderStatus(OrderStatus.COOKING))
+                .isInstanceOf(OrderStatusTransitionInvalidException.class);
+    }
+}
@@ -0,0 +1,139 @@
+package kitchenpos.domain.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kitchenpos.exception.badrequest.IdempotencyKeyReusedException;
+import kitchenpos.exception.badrequest.IdempotencyRequestInProgressException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryIdempotencyStoreTest {
+    private static final String KEY = "idempotency-key";
+    private static final byte[] BODY = "{\"orderTableId\":1}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OTHER_BODY = "{\"orderTableId\":2}".getBytes(StandardCharsets.UTF_8);
+    private static final long WAIT_TIMEOUT_MILLIS = 5_000L;
+
+    private final InMemoryIdempotencyStore idempotencyStore = new InMemoryIdempotencyStore(WAIT_TIMEOUT_MILLIS);
+
+    @DisplayName("같은 멱등키로 같은 요청을 다시 보내면 처음 응답을 돌려준다")
+    @Test
+    void same_request_returns_first_response() {
+        // given
+        final var calls = new AtomicInteger();
+        idempotencyStore.computeIfAbsent(KEY, BODY, String.class, () -> "first-" + calls.incrementAndGet());
+
+        // when
+        final var actual = idempotencyStore.computeIfAbsent(KEY, BODY, String.class,
+                () -> "second-" + calls.incrementAndGet());
+
+        // then
+        assertAll(
+                () -> assertThat(actual).isEqualTo("first-1"),
+                () -> assertThat(calls).hasValue(1)
+        );
+    }
+
+    @DisplayName("같은 멱등키로 다른 요청을 보내면 예외가 발생한다")
+    @Test
+    void different_request_with_same_key_should_fail() {
+        // given
+        idempotencyStore.computeIfAbsent(KEY, BODY, String.class, () -> "first");
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyStore.computeIfAbsent(KEY, OTHER_BODY, String.class, () -> "second"))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @DisplayName("처리에 실패한 요청은 같은 멱등키로 다시 처리할 수 있다")
+    @Test
+    void failed_request_can_be_retried() {
+        // given
+        assertThatThrownBy(() -> idempotencyStore.computeIfAbsent(KEY, BODY, String.class, () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        final var actual = idempotencyStore.computeIfAbsent(KEY, BODY, String.class, () -> "retried");
+
+        // then
+        assertThat(actual).isEqualTo("retried");
+    }
+
+    @DisplayName("처리 중인 요청이 실패하면 기다리던 요청이 직접 다시 처리한다")
+    @Test
+    void waiting_request_runs_again_when_in_flight_request_fails() throws Exception {
+        // given
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var first = CompletableFuture.runAsync(() -> idempotencyStore.computeIfAbsent(KEY, BODY, String.class,
+                () -> {
+                    started.countDown();
+                    await(release);
+                    throw new IllegalStateException();
+                }));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        final var waiting = CompletableFuture.supplyAsync(
+                () -> idempotencyStore.computeIfAbsent(KEY, BODY, String.class, () -> "retried"));
+        release.countDown();
+
+        // then
+        assertAll(
+                () -> assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo("retried"),
+                () -> assertThatThrownBy(first::join).hasCauseInstanceOf(IllegalStateException.class)
+        );
+    }
+
+    @DisplayName("처리 중 Error가 발생한 요청도 같은 멱등키로 다시 처리할 수 있다")
+    @Test
+    void request_failed_with_error_can_be_retried() {
+        // given
+        assertThatThrownBy(() -> idempotencyStore.computeIfAbsent(KEY, BODY, String.class, () -> {
+            throw new AssertionError();
+        })).isInstanceOf(AssertionError.class);
+
+        // when
+        final var actual = idempotencyStore.computeIfAbsent(KEY, BODY, String.class, () -> "retried");
+
+        // then
+        assertThat(actual).isEqualTo("retried");
+    }
+
+    @DisplayName("처리 중인 요청을 제한 시간 안에 기다리지 못하면 예외가 발생한다")
+    @Test
+    void waiting_request_should_fail_when_in_flight_request_takes_too_long() throws Exception {
+        // given
+        final var shortWaitStore = new InMemoryIdempotencyStore(100L);
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var first = CompletableFuture.supplyAsync(() -> shortWaitStore.computeIfAbsent(KEY, BODY, String.class,
+                () -> {
+                    started.countDown();
+                    await(release);
+                    return "first";
+                }));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> shortWaitStore.computeIfAbsent(KEY, BODY, String.class, () -> "second"))
+                .isInstanceOf(IdempotencyRequestInProgressException.class);
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
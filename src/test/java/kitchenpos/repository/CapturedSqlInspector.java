@@ -0,0 +1,23 @@
+package kitchenpos.repository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class CapturedSqlInspector implements StatementInspector {
+    private static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+    public static List<String> capture(final Runnable call) {
+        CAPTURED.clear();
+        call.run();
+
+        return List.copyOf(CAPTURED);
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        CAPTURED.add(sql);
+
+        return sql;
+    }
+}
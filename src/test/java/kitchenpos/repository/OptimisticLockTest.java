@@ -0,0 +1,95 @@
+package kitchenpos.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import kitchenpos.DatabaseCleaner;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.support.OptimisticLockRetry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+@SpringBootTest
+class OptimisticLockTest {
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+    @Autowired
+    private OptimisticLockRetry optimisticLockRetry;
+    @Autowired
+    private DataSource dataSource;
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clear();
+        final var orderTable = orderTableRepository.save(new OrderTable(3, false));
+        orderId = orderRepository.save(
+                new Order(orderTable.getId(), OrderStatus.COOKING, LocalDateTime.now(), new ArrayList<>())).getId();
+    }
+
+    @DisplayName("먼저 읽은 주문을 다른 단말이 변경했다면 상태 변경은 덮어쓰지 않고 실패한다")
+    @Test
+    void stale_order_update_is_rejected() {
+        // given
+        final var first = orderRepository.getById(orderId);
+        final var second = orderRepository.getById(orderId);
+        orderRepository.save(first.changeOrderStatus(OrderStatus.COMPLETION));
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> orderRepository.save(second.changeOrderStatus(OrderStatus.MEAL)))
+                        .isInstanceOf(OptimisticLockingFailureException.class),
+                () -> assertThat(orderRepository.getById(orderId).getOrderStatus()).isEqualTo(OrderStatus.COMPLETION)
+        );
+    }
+
+    @DisplayName("버전 충돌이 나면 새로 읽어서 다시 시도한다")
+    @Test
+    void conflicting_update_is_retried() {
+        // given
+        final var attempts = new AtomicInteger();
+
+        // when
+        final var actual = optimisticLockRetry.execute(() -> {
+            final var order = orderRepository.getById(orderId);
+            if (attempts.incrementAndGet() == 1) {
+                changeVersionFromAnotherConnection(orderId);
+            }
+
+            return orderRepository.save(order.changeOrderStatus(OrderStatus.MEAL));
+        });
+
+        // then
+        assertAll(
+                () -> assertThat(attempts.get()).isEqualTo(2),
+                () -> assertThat(actual.getOrderStatus()).isEqualTo(OrderStatus.MEAL),
+                () -> assertThat(orderRepository.getById(orderId).getOrderStatus()).isEqualTo(OrderStatus.MEAL)
+        );
+    }
+
+    private void changeVersionFromAnotherConnection(final Long orderId) {
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.prepareStatement("UPDATE orders SET version = version + 1 WHERE id = ?")) {
+            statement.setLong(1, orderId);
+            statement.executeUpdate();
+        } catch (final SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
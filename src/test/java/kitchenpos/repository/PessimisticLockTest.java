@@ -0,0 +1,166 @@
+package kitchenpos.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import kitchenpos.DatabaseCleaner;
+import kitchenpos.application.TableGroupService;
+import kitchenpos.application.TableService;
+import kitchenpos.ui.dto.request.OrderTableCreateRequest;
+import kitchenpos.ui.dto.request.TableGroupCreateRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = "kitchenpos.table-group.pessimistic-lock.enabled=true")
+class PessimisticLockTest {
+    private static final int TABLE_COUNT = 6;
+    private static final int NODE_COUNT = 8;
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+    @Autowired
+    private TableService tableService;
+    @Autowired
+    private TableGroupService tableGroupService;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clear();
+    }
+
+    @DisplayName("여러 노드가 각자의 커넥션으로 겹치는 테이블을 동시에 묶어도 한 테이블은 한 그룹에만 속하고 교착 상태가 생기지 않는다")
+    @Test
+    void competing_nodes_never_assign_a_table_twice() throws InterruptedException {
+        // given
+        final var claimedTables = new ConcurrentHashMap<Long, Set<Long>>();
+        final var unexpectedFailures = new ConcurrentLinkedQueue<Throwable>();
+        final var executor = Executors.newFixedThreadPool(NODE_COUNT);
+
+        // when
+        for (int round = 0; round < ROUNDS; round++) {
+            final var orderTableIds = createEmptyTables();
+            final var start = new CountDownLatch(1);
+            final var finished = new CountDownLatch(NODE_COUNT);
+
+            for (int node = 0; node < NODE_COUNT; node++) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        groupRandomTables(orderTableIds, claimedTables, unexpectedFailures);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        finished.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertThat(finished.await(30, TimeUnit.SECONDS)).as("deadlock free").isTrue();
+        }
+        executor.shutdown();
+
+        // then
+        final var claimedTableIds = claimedTables.values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toList());
+        assertAll(
+                () -> assertThat(unexpectedFailures).isEmpty(),
+                () -> assertThat(claimedTables).isNotEmpty(),
+                () -> assertThat(claimedTableIds).doesNotHaveDuplicates(),
+                () -> claimedTables.forEach((tableGroupId, orderTableIds) -> assertThat(
+                        jdbcTemplate.queryForList("SELECT table_group_id FROM order_table WHERE id IN ("
+                                + joinIds(orderTableIds) + ")", Long.class)).containsOnly(tableGroupId))
+        );
+    }
+
+    @DisplayName("다른 노드가 잠근 테이블은 잠금이 풀릴 때까지 기다렸다가 최신 상태로 검증한다")
+    @Test
+    void grouping_waits_for_row_lock_held_by_another_node() throws Exception {
+        // given
+        final var orderTableIds = createEmptyTables();
+        final var lockedTableId = orderTableIds.get(0);
+        final var request = new TableGroupCreateRequest(List.of(lockedTableId, orderTableIds.get(1)));
+
+        try (final var otherNode = dataSource.getConnection()) {
+            otherNode.setAutoCommit(false);
+            try (final var statement = otherNode.createStatement()) {
+                statement.executeQuery("SELECT * FROM order_table WHERE id = " + lockedTableId + " FOR UPDATE");
+                statement.executeUpdate("UPDATE order_table SET empty = FALSE WHERE id = " + lockedTableId);
+            }
+
+            // when
+            final var grouping = CompletableFuture.supplyAsync(() -> tableGroupService.create(request));
+            TimeUnit.MILLISECONDS.sleep(200);
+            final var blocked = !grouping.isDone();
+            otherNode.commit();
+
+            // then
+            assertAll(
+                    () -> assertThat(blocked).isTrue(),
+                    () -> assertThatThrownBy(() -> grouping.get(10, TimeUnit.SECONDS))
+                            .isInstanceOf(ExecutionException.class)
+                            .hasCauseInstanceOf(IllegalArgumentException.class),
+                    () -> assertThat(jdbcTemplate.queryForObject(
+                            "SELECT COUNT(*) FROM order_table WHERE table_group_id IS NOT NULL", Long.class)).isZero()
+            );
+        }
+    }
+
+    private List<Long> createEmptyTables() {
+        final var orderTableIds = new ArrayList<Long>();
+        for (int i = 0; i < TABLE_COUNT; i++) {
+            orderTableIds.add(tableService.create(new OrderTableCreateRequest(0, true)).getId());
+        }
+
+        return orderTableIds;
+    }
+
+    private void groupRandomTables(final List<Long> orderTableIds, final Map<Long, Set<Long>> claimedTables,
+                                   final Queue<Throwable> unexpectedFailures) {
+        final var shuffled = new ArrayList<>(orderTableIds);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        final var requested = new HashSet<>(shuffled.subList(0, 2 + ThreadLocalRandom.current().nextInt(2)));
+
+        try {
+            final var tableGroup = tableGroupService.create(new TableGroupCreateRequest(new ArrayList<>(requested)));
+            claimedTables.put(tableGroup.getId(), requested);
+        } catch (final Throwable e) {
+            if (!(e instanceof IllegalArgumentException)) {
+                unexpectedFailures.add(e);
+            }
+        }
+    }
+
+    private String joinIds(final Set<Long> orderTableIds) {
+        return orderTableIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+}
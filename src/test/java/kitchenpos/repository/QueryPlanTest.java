@@ -0,0 +1,99 @@
+package kitchenpos.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import kitchenpos.DatabaseCleaner;
+import kitchenpos.domain.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@TestInstance(Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "kitchenpos.repository.CapturedSqlInspector")
+class QueryPlanTest {
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @BeforeEach
+    void clear() {
+        databaseCleaner.clear();
+    }
+
+    Stream<Arguments> repositoryQueries() {
+        final Runnable existsByOrderTableId = () -> orderRepository.existsByOrderTableIdAndOrderStatusIn(
+                1L, OrderStatus.activeStatuses());
+        final Runnable existsByOrderTableIdIn = () -> orderRepository.existsByOrderTableIdInAndOrderStatusIn(
+                List.of(1L, 2L), OrderStatus.activeStatuses());
+        final Runnable findIdsAfterCursor = () -> orderRepository.findIdsAfterCursor(
+                0L, null, null, null, null, PageRequest.of(0, 101));
+        final Runnable findAllWithOrderLineItems = () -> orderRepository.findAllWithOrderLineItemsByIdIn(
+                List.of(1L, 2L));
+        final Runnable findAllByTableGroupId = () -> orderTableRepository.findAllByTableGroupId(1L);
+        final Runnable findAllGroupable = () -> orderTableRepository
+                .findAllByIdInAndEmptyIsTrueAndTableGroupIdIsNull(List.of(1L, 2L));
+
+        return Stream.of(
+                Arguments.of("existsByOrderTableIdAndOrderStatusIn", existsByOrderTableId),
+                Arguments.of("existsByOrderTableIdInAndOrderStatusIn", existsByOrderTableIdIn),
+                Arguments.of("findIdsAfterCursor", findIdsAfterCursor),
+                Arguments.of("findAllWithOrderLineItemsByIdIn", findAllWithOrderLineItems),
+                Arguments.of("findAllByTableGroupId", findAllByTableGroupId),
+                Arguments.of("findAllByIdInAndEmptyIsTrueAndTableGroupIdIsNull", findAllGroupable)
+        );
+    }
+
+    @DisplayName("주문과 테이블의 주요 조회 쿼리는 테이블 전체 스캔 없이 인덱스를 사용한다")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repository_queries_should_not_fall_back_to_table_scan(final String queryName, final Runnable call) {
+        // given
+        final var capturedSql = CapturedSqlInspector.capture(call);
+
+        // when
+        final var plans = capturedSql.stream()
+                .map(this::explain)
+                .collect(Collectors.toList());
+
+        // then
+        assertAll(
+                () -> assertThat(capturedSql).as("%s 에서 실행된 SQL", queryName).isNotEmpty(),
+                () -> assertThat(plans).allSatisfy(plan -> assertThat(plan)
+                        .as("%s 실행 계획%n%s", queryName, plan)
+                        .doesNotContain(TABLE_SCAN))
+        );
+    }
+
+    private String explain(final String sql) {
+        return jdbcTemplate.query("EXPLAIN " + sql,
+                        statement -> {
+                            final var parameterCount = statement.getParameterMetaData().getParameterCount();
+                            for (int index = 1; index <= parameterCount; index++) {
+                                statement.setObject(index, null);
+                            }
+                        },
+                        (resultSet, rowNumber) -> resultSet.getString(1))
+                .stream()
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
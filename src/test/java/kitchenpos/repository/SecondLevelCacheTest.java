@@ -0,0 +1,86 @@
+package kitchenpos.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.math.BigDecimal;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import kitchenpos.DatabaseCleaner;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.vo.ProductPrice;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleaner.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("캐시된 메뉴 그룹은 SQL 실행 없이 2차 캐시에서 조회된다")
+    @Test
+    void menu_group_is_served_from_second_level_cache() {
+        // given
+        final var menuGroupId = menuGroupRepository.save(new MenuGroup("두 마리 메뉴")).getId();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // when
+        menuGroupRepository.getById(menuGroupId);
+        final var statementsOnMiss = statistics.getPrepareStatementCount();
+        menuGroupRepository.getById(menuGroupId);
+        final var statementsOnHit = statistics.getPrepareStatementCount() - statementsOnMiss;
+
+        // then
+        assertAll(
+                () -> assertThat(statementsOnMiss).isEqualTo(1L),
+                () -> assertThat(statementsOnHit).isZero(),
+                () -> assertThat(statistics.getDomainDataRegionStatistics(MenuGroup.class.getName()).getHitCount())
+                        .isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("같은 상품 목록 조회는 SQL 실행 없이 쿼리 캐시와 2차 캐시에서 조회된다")
+    @Test
+    void products_are_served_from_query_cache() {
+        // given
+        final var productA = productRepository.save(new Product("까르보치킨", ProductPrice.from(new BigDecimal("20000"))));
+        final var productB = productRepository.save(new Product("짜장치킨", ProductPrice.from(new BigDecimal("18000"))));
+        final var productIds = List.of(productA.getId(), productB.getId());
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // when
+        productRepository.findByIdIn(productIds);
+        final var statementsOnMiss = statistics.getPrepareStatementCount();
+        final var actual = productRepository.findByIdIn(productIds);
+        final var statementsOnHit = statistics.getPrepareStatementCount() - statementsOnMiss;
+
+        // then
+        assertAll(
+                () -> assertThat(actual).extracting(Product::getName).containsExactlyInAnyOrder("까르보치킨", "짜장치킨"),
+                () -> assertThat(statementsOnMiss).isEqualTo(1L),
+                () -> assertThat(statementsOnHit).isZero(),
+                () -> assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1L)
+        );
+    }
+}
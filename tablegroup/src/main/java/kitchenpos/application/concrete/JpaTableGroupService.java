@@ -1,14 +1,21 @@
 package kitchenpos.application.concrete;
 
+import java.util.Set;
 import kitchenpos.application.TableGroupService;
+import kitchenpos.domain.TableGroup;
 import kitchenpos.domain.TableGroupMapper;
+import kitchenpos.domain.support.OrderTableLocks;
 import kitchenpos.domain.validator.TableGroupValidator;
 import kitchenpos.repository.OrderTableRepository;
 import kitchenpos.repository.TableGroupRepository;
 import kitchenpos.ui.dto.request.TableGroupCreateRequest;
 import kitchenpos.ui.dto.response.TableGroupResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Transactional(readOnly = true)
 @Service
@@ -17,33 +24,57 @@ public class JpaTableGroupService implements TableGroupService {
     private final TableGroupRepository tableGroupRepository;
     private final OrderTableRepository orderTableRepository;
     private final TableGroupMapper tableGroupMapper;
+    private final OrderTableLocks orderTableLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean pessimisticLockEnabled;
 
     public JpaTableGroupService(final TableGroupValidator tableGroupValidator,
                                 final TableGroupRepository tableGroupRepository,
                                 final OrderTableRepository orderTableRepository,
-                                final TableGroupMapper tableGroupMapper) {
+                                final TableGroupMapper tableGroupMapper,
+                                final OrderTableLocks orderTableLocks,
+                                final PlatformTransactionManager transactionManager,
+                                @Value("${kitchenpos.table-group.pessimistic-lock.enabled:false}")
+                                final boolean pessimisticLockEnabled) {
         this.tableGroupValidator = tableGroupValidator;
         this.tableGroupRepository = tableGroupRepository;
         this.orderTableRepository = orderTableRepository;
         this.tableGroupMapper = tableGroupMapper;
+        this.orderTableLocks = orderTableLocks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pessimisticLockEnabled = pessimisticLockEnabled;
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public TableGroupResponse create(final TableGroupCreateRequest request) {
-        final var entity = tableGroupMapper.mapFrom(request);
-        final var tableGroup = tableGroupRepository.save(entity);
-        final var orderTables = orderTableRepository.findAllByTableGroupId(entity.getId());
+        final var tableGroup = pessimisticLockEnabled
+                ? transactionTemplate.execute(status -> group(tableGroupMapper.mapFromLocked(request), request.ids()))
+                : orderTableLocks.executeWith(request.ids(), () -> transactionTemplate.execute(
+                        status -> group(tableGroupMapper.mapFrom(request), request.ids())));
+        final var orderTables = orderTableRepository.findAllByTableGroupId(tableGroup.getId());
 
         return TableGroupResponse.of(tableGroup, orderTables);
     }
 
-    @Transactional
+    private TableGroup group(final TableGroup tableGroup, final Set<Long> orderTableIds) {
+        final var savedTableGroup = tableGroupRepository.save(tableGroup);
+        orderTableRepository.groupAll(savedTableGroup.getId(), orderTableIds);
+
+        return savedTableGroup;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public void unGroup(final Long tableGroupId) {
-        final var tableGroup = tableGroupRepository.getById(tableGroupId)
-                .unGroup(tableGroupValidator);
+        final var orderTableIds = orderTableRepository.findIdsByTableGroupId(tableGroupId);
+
+        orderTableLocks.executeWith(orderTableIds, () -> transactionTemplate.execute(status -> {
+            final var tableGroup = tableGroupRepository.save(tableGroupRepository.getById(tableGroupId)
+                    .unGroup(tableGroupValidator));
+            orderTableRepository.unGroupAll(tableGroupId);
 
-        tableGroupRepository.save(tableGroup);
+            return tableGroup;
+        }));
     }
 }
@@ -1,39 +1,24 @@
 package kitchenpos.application.event;
 
-import kitchenpos.domain.validator.OrderTableValidator;
-import kitchenpos.repository.OrderTableRepository;
-import org.springframework.context.event.EventListener;
+import kitchenpos.domain.support.TableBoard;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 public class TableGroupEventListener {
-    private final OrderTableRepository orderTableRepository;
-    private final OrderTableValidator orderTableValidator;
+    private final TableBoard tableBoard;
 
-    public TableGroupEventListener(final OrderTableRepository orderTableRepository,
-                                   final OrderTableValidator orderTableValidator) {
-        this.orderTableRepository = orderTableRepository;
-        this.orderTableValidator = orderTableValidator;
+    public TableGroupEventListener(final TableBoard tableBoard) {
+        this.tableBoard = tableBoard;
     }
 
-    @Transactional
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleTableGroupEvent(final TableGroupEvent tableGroupEvent) {
-        final var tableGroup = tableGroupEvent.getTableGroup();
-        final var tableGroupId = tableGroup.getId();
-        final var orderTableIds = tableGroupEvent.getOrderTableIds();
-
-        orderTableRepository.findAllByIdInAndEmptyIsTrueAndTableGroupIdIsNull(orderTableIds)
-                .forEach(table -> table.group(orderTableValidator, tableGroupId));
+        tableBoard.refresh(tableGroupEvent.getOrderTableIds());
     }
 
-    @Transactional
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleTableUnGroupEvent(final TableUnGroupEvent tableUnGroupEvent) {
-        final var tableGroupId = tableUnGroupEvent.getTableGroupId();
-
-        orderTableRepository.findAllByTableGroupId(tableGroupId)
-                .forEach(table -> table.unGroup(orderTableValidator));
+        tableBoard.refresh(tableUnGroupEvent.getOrderTableIds());
     }
 }
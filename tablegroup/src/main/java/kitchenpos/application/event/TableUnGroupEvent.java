@@ -1,13 +1,21 @@
 package kitchenpos.application.event;
 
+import java.util.List;
+
 public class TableUnGroupEvent {
     private final Long tableGroupId;
+    private final List<Long> orderTableIds;
 
-    public TableUnGroupEvent(final Long tableGroupId) {
+    public TableUnGroupEvent(final Long tableGroupId, final List<Long> orderTableIds) {
         this.tableGroupId = tableGroupId;
+        this.orderTableIds = orderTableIds;
     }
 
     public Long getTableGroupId() {
         return tableGroupId;
     }
+
+    public List<Long> getOrderTableIds() {
+        return orderTableIds;
+    }
 }
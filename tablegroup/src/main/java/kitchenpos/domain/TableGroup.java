@@ -9,6 +9,7 @@ import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import kitchenpos.application.event.TableGroupEvent;
 import kitchenpos.application.event.TableUnGroupEvent;
 import kitchenpos.domain.validator.TableGroupValidator;
@@ -20,7 +21,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity
 public class TableGroup extends AbstractAggregateRoot<TableGroup> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "table_group_seq_generator")
+    @SequenceGenerator(name = "table_group_seq_generator", sequenceName = "table_group_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     @CreatedDate
@@ -35,9 +37,9 @@ public class TableGroup extends AbstractAggregateRoot<TableGroup> {
     }
 
     public TableGroup unGroup(final TableGroupValidator tableGroupValidator) {
-        tableGroupValidator.validateUnGroup(this);
+        final var orderTableIds = tableGroupValidator.validateUnGroup(this);
 
-        registerEvent(new TableUnGroupEvent(this.id));
+        registerEvent(new TableUnGroupEvent(this.id, orderTableIds));
 
         return this;
     }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import kitchenpos.repository.OrderTableRepository;
+import kitchenpos.repository.OrderTableRowLocks;
 import kitchenpos.ui.dto.request.TableGroupCreateRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -13,17 +14,32 @@ public class TableGroupMapper {
     private static final int MINIMUM_TABLE_GROUP_SIZE = 2;
 
     private final OrderTableRepository orderTableRepository;
+    private final OrderTableRowLocks orderTableRowLocks;
 
-    public TableGroupMapper(final OrderTableRepository orderTableRepository) {
+    public TableGroupMapper(final OrderTableRepository orderTableRepository,
+                            final OrderTableRowLocks orderTableRowLocks) {
         this.orderTableRepository = orderTableRepository;
+        this.orderTableRowLocks = orderTableRowLocks;
     }
 
     public TableGroup mapFrom(final TableGroupCreateRequest request) {
         final var requestIds = request.ids();
         validateRequestIdsSize(requestIds);
 
-        final var orderTables = orderTableRepository.findAllByIdInAndEmptyIsTrueAndTableGroupIdIsNull(requestIds);
-        final var orderTableIds = extractOrderTableIds(orderTables);
+        final var orderTableIds = orderTableRepository.findGroupableIdsByIdIn(requestIds);
+        validateFoundTableSize(requestIds, orderTableIds);
+
+        return new TableGroup(orderTableIds);
+    }
+
+    public TableGroup mapFromLocked(final TableGroupCreateRequest request) {
+        final var requestIds = request.ids();
+        validateRequestIdsSize(requestIds);
+
+        final var orderTableIds = orderTableRowLocks.lockAllByIdInAndEmptyIsTrueAndTableGroupIdIsNull(requestIds)
+                .stream()
+                .map(OrderTable::getId)
+                .collect(Collectors.toList());
         validateFoundTableSize(requestIds, orderTableIds);
 
         return new TableGroup(orderTableIds);
@@ -35,12 +51,6 @@ public class TableGroupMapper {
         }
     }
 
-    private List<Long> extractOrderTableIds(final List<OrderTable> orderTables) {
-        return orderTables.stream()
-                .map(OrderTable::getId)
-                .collect(Collectors.toList());
-    }
-
     private void validateFoundTableSize(final Set<Long> orderTableIds, final List<Long> orderTables) {
         if (orderTableIds.size() != orderTables.size()) {
             throw new IllegalArgumentException();
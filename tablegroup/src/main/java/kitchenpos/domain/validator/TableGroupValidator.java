@@ -2,33 +2,36 @@ package kitchenpos.domain.validator;
 
 import java.util.List;
 import java.util.stream.Collectors;
-import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.TableGroup;
-import kitchenpos.repository.OrderRepository;
 import kitchenpos.repository.OrderTableRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
 @Component
 public class TableGroupValidator {
-    private static final List<OrderStatus> ACTIVE_ORDER_STATUS = List.of(OrderStatus.COOKING, OrderStatus.MEAL);
-
     private final OrderTableRepository orderTableRepository;
-    private final OrderRepository orderRepository;
+    private final OrderExistenceChecker orderExistenceChecker;
+    private final OrderTableValidator orderTableValidator;
 
-    public TableGroupValidator(final OrderTableRepository orderTableRepository, final OrderRepository orderRepository) {
+    public TableGroupValidator(final OrderTableRepository orderTableRepository,
+                               final OrderExistenceChecker orderExistenceChecker,
+                               final OrderTableValidator orderTableValidator) {
         this.orderTableRepository = orderTableRepository;
-        this.orderRepository = orderRepository;
+        this.orderExistenceChecker = orderExistenceChecker;
+        this.orderTableValidator = orderTableValidator;
     }
 
-    public void validateUnGroup(final TableGroup tableGroup) {
+    public List<Long> validateUnGroup(final TableGroup tableGroup) {
         final var tableGroupId = tableGroup.getId();
         final var orderTables = orderTableRepository.findAllByTableGroupId(tableGroupId);
         validateTableGroupId(orderTables, tableGroupId);
+        orderTables.forEach(orderTableValidator::validateUnGroup);
 
         final var orderTableIds = extractTableIds(orderTables);
         validateAllOrdersInGroupedTableAreComplete(orderTableIds);
+
+        return orderTableIds;
     }
 
 
@@ -45,7 +48,7 @@ public class TableGroupValidator {
     }
 
     private void validateAllOrdersInGroupedTableAreComplete(final List<Long> orderTableIds) {
-        if (orderRepository.existsByOrderTableIdInAndOrderStatusIn(orderTableIds, ACTIVE_ORDER_STATUS)) {
+        if (orderExistenceChecker.hasCookingOrMealOrderByOrderTableIdIn(orderTableIds)) {
             throw new IllegalArgumentException();
         }
     }